@@ -0,0 +1,130 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Non-blocking JSON client for the upstream server, built on the JDK {@link HttpClient}. No thread waits while a request
+ * is in flight; the returned futures complete on the client's executor.
+ *
+ * Failures are reported with the same exceptions {@code RestTemplate} throws, so callers handle both paths alike:
+ * {@link HttpClientErrorException} and {@link HttpServerErrorException} for error statuses, and
+ * {@link ResourceAccessException} for I/O errors and timeouts.
+ */
+public class AsyncJsonClient {
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration requestTimeout;
+
+    /**
+     * @param requestTimeout deadline for a whole exchange, after which it fails
+     */
+    public AsyncJsonClient(HttpClient httpClient, ObjectMapper objectMapper, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Reads a response body, for callers that stream it rather than binding it to a type.
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    public <T> CompletableFuture<T> get(String url, BodyReader<T> reader) {
+        return send(request(url).GET().build()).thenApply(body -> read(url, body, reader));
+    }
+
+    public <T> CompletableFuture<T> post(String url, Object requestBody, Class<T> responseType) {
+        return send(request(url).POST(json(requestBody)).build())
+                .thenApply(body -> read(url, body, in -> objectMapper.readValue(in, responseType)));
+    }
+
+    public CompletableFuture<Void> delete(String url) {
+        return send(request(url).DELETE().build()).thenApply(body -> null);
+    }
+
+    public <T> CompletableFuture<T> delete(String url, Object requestBody, Class<T> responseType) {
+        return send(request(url).method("DELETE", json(requestBody)).build())
+                .thenApply(body -> read(url, body, in -> objectMapper.readValue(in, responseType)));
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private HttpRequest.BodyPublisher json(Object requestBody) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody));
+        } catch (JsonProcessingException e) {
+            throw new RestClientException("Could not write JSON request body: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Send a request and complete with its body once a successful response has been received in full.
+     */
+    private CompletableFuture<byte[]> send(HttpRequest request) {
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = (failure instanceof CompletionException && failure.getCause() != null)
+                                ? failure.getCause()
+                                : failure;
+                        throw new ResourceAccessException(
+                                "I/O error on " + request.method() + " request for \"" + request.uri() + "\": "
+                                        + cause.getMessage(),
+                                (cause instanceof IOException ioException) ? ioException : new IOException(cause));
+                    }
+                    if (response.statusCode() >= 400) {
+                        throw errorFor(response);
+                    }
+                    return response.body();
+                });
+    }
+
+    private static RestClientException errorFor(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private static <T> T read(String url, byte[] body, BodyReader<T> reader) {
+        try {
+            return reader.read(new ByteArrayInputStream(body));
+        } catch (IOException e) {
+            throw new RestClientException("Error while extracting response for \"" + url + "\": " + e.getMessage(), e);
+        }
+    }
+}
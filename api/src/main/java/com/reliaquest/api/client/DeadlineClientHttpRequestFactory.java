@@ -0,0 +1,174 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Apache HttpClient request factory that also enforces a deadline on each exchange as a whole. Connect and read
+ * timeouts bound each individual wait, but a server trickling data could otherwise keep a request thread for much
+ * longer; once the deadline passes the request is aborted and the caller gets an I/O error.
+ *
+ * The deadline runs from execution until the response is closed, or the exchange fails, at which point it is
+ * cancelled, so the scheduler does not hold on to finished requests until their deadlines would have passed.
+ */
+public class DeadlineClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final Duration totalTimeout;
+
+    private final ScheduledThreadPoolExecutor deadlines = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "upstream-request-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Hands the request built by {@link #createHttpUriRequest} to {@link #createRequest}, which calls it in-thread. */
+    private final ThreadLocal<HttpUriRequestBase> created = new ThreadLocal<>();
+
+    public DeadlineClientHttpRequestFactory(HttpClient httpClient, Duration totalTimeout) {
+        super(httpClient);
+        this.totalTimeout = totalTimeout;
+        // A cancelled deadline leaves the queue at once, rather than when it would have run
+        deadlines.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        HttpUriRequestBase cancellable;
+        try {
+            request = super.createRequest(uri, httpMethod);
+            cancellable = created.get();
+        } finally {
+            created.remove();
+        }
+        return (cancellable != null) ? new DeadlineRequest(request, cancellable) : request;
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        if (request instanceof HttpUriRequestBase cancellable) {
+            created.set(cancellable);
+        }
+        return request;
+    }
+
+    /**
+     * Deadlines of exchanges that are still in flight.
+     */
+    public int pendingDeadlines() {
+        return deadlines.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        deadlines.shutdownNow();
+        super.destroy();
+    }
+
+    /**
+     * Request that aborts its exchange once the deadline passes, unless its response was closed first.
+     */
+    private final class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest request;
+
+        private final HttpUriRequestBase cancellable;
+
+        private DeadlineRequest(ClientHttpRequest request, HttpUriRequestBase cancellable) {
+            this.request = request;
+            this.cancellable = cancellable;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> deadline =
+                    deadlines.schedule(cancellable::cancel, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(request.execute(), deadline);
+            } catch (IOException | RuntimeException | Error e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return request.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return request.getHeaders();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return request.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return request.getURI();
+        }
+    }
+
+    /**
+     * Response that cancels its exchange's deadline once closed.
+     */
+    private static final class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+
+        private final ScheduledFuture<?> deadline;
+
+        private DeadlineResponse(ClientHttpResponse response, ScheduledFuture<?> deadline) {
+            this.response = response;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return response.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.close();
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.entity.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads the upstream employee list response, {@code {"data": [...], "status": "..."}}, token by token and hands each
+ * employee to a consumer as soon as it has been parsed. No list of the employees is ever built, so the memory a read
+ * needs is whatever the consumer keeps.
+ */
+public final class EmployeeListReader {
+
+    private static final ObjectReader EMPLOYEE_READER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(Employee.class);
+
+    private EmployeeListReader() {}
+
+    /**
+     * Read every employee in the {@code data} array of a response body. Other fields are skipped.
+     *
+     * @return the number of employees read
+     */
+    public static int read(InputStream body, Consumer<Employee> consumer) throws IOException {
+        try (JsonParser parser = EMPLOYEE_READER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an employee list response object");
+            }
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"data".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected an employee object, got " + element);
+                    }
+                    consumer.accept(EMPLOYEE_READER.readValue(parser));
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
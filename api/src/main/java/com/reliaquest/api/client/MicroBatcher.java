@@ -0,0 +1,141 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects calls that arrive within a short window into one batch call. The first call of a batch starts the window;
+ * the batch is sent when the window ends or once it holds {@code maxBatchSize} calls, whichever comes first. Each
+ * caller's future completes with the result at its own position in the batch's results, or with the batch's failure.
+ *
+ * @param <I> input of a single call
+ * @param <O> result of a single call
+ */
+public class MicroBatcher<I, O> {
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Function<List<I>, CompletableFuture<List<O>>> sender;
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder calls = new LongAdder();
+
+    /** Calls waiting to be sent, guarded by this batcher. */
+    private Batch<I, O> open = new Batch<>();
+
+    /**
+     * @param window how long the first call of a batch waits for others to join it
+     * @param maxBatchSize most calls sent in one batch
+     * @param scheduler ends the windows; batches are sent from its thread, so {@code sender} must not block
+     * @param sender sends a batch, completing with one result per input, in the same order
+     */
+    public MicroBatcher(
+            Duration window,
+            int maxBatchSize,
+            ScheduledExecutorService scheduler,
+            Function<List<I>, CompletableFuture<List<O>>> sender) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.sender = sender;
+    }
+
+    /**
+     * Add a call to the open batch, starting a new one if there is none.
+     */
+    public CompletableFuture<O> submit(I input) {
+        CompletableFuture<O> result = new CompletableFuture<>();
+        Batch<I, O> full = null;
+        synchronized (this) {
+            Batch<I, O> batch = open;
+            batch.inputs.add(input);
+            batch.results.add(result);
+            if (batch.inputs.size() >= maxBatchSize) {
+                open = new Batch<>();
+                full = batch;
+            } else if (batch.inputs.size() == 1) {
+                scheduler.schedule(() -> sendIfOpen(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return result;
+    }
+
+    private void sendIfOpen(Batch<I, O> batch) {
+        synchronized (this) {
+            // The batch may have filled up and been sent before its window ended
+            if (open != batch) {
+                return;
+            }
+            open = new Batch<>();
+        }
+        send(batch);
+    }
+
+    private void send(Batch<I, O> batch) {
+        batches.increment();
+        calls.add(batch.inputs.size());
+        CompletableFuture<List<O>> sent;
+        try {
+            sent = sender.apply(List.copyOf(batch.inputs));
+        } catch (RuntimeException | Error e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((outputs, failure) -> {
+            Throwable error = (failure != null) ? unwrap(failure) : null;
+            if (error == null && (outputs == null || outputs.size() != batch.inputs.size())) {
+                error = new IllegalStateException("Batch of " + batch.inputs.size() + " calls returned "
+                        + ((outputs == null) ? "no" : outputs.size()) + " results");
+            }
+            for (int i = 0; i < batch.results.size(); i++) {
+                if (error != null) {
+                    batch.results.get(i).completeExceptionally(error);
+                } else {
+                    batch.results.get(i).complete(outputs.get(i));
+                }
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
+    }
+
+    /**
+     * Batches sent.
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Calls sent, across all batches.
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    private static final class Batch<I, O> {
+
+        private final List<I> inputs = new ArrayList<>();
+
+        private final List<CompletableFuture<O>> results = new ArrayList<>();
+    }
+}
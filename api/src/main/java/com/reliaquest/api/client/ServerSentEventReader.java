@@ -0,0 +1,70 @@
+package com.reliaquest.api.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads a {@code text/event-stream} body line by line and hands each complete event to a listener as soon as its
+ * terminating blank line arrives, following the event stream interpretation rules of the HTML specification: data
+ * lines are joined with newlines, an event without data is not dispatched, and the last event id carries over to later
+ * events that do not set one.
+ */
+public final class ServerSentEventReader {
+
+    private ServerSentEventReader() {}
+
+    /**
+     * @param id the last event id set so far, or null
+     * @param name the event type, {@code message} unless set
+     */
+    public record Event(String id, String name, String data) {}
+
+    public interface Listener {
+
+        void onEvent(Event event);
+
+        /**
+         * Called for comment lines, which servers send to keep an idle stream open.
+         */
+        default void onComment(String comment) {}
+    }
+
+    /**
+     * Read events until the stream ends.
+     *
+     * @param lastEventId id in effect before the first event, or null
+     */
+    public static void read(BufferedReader reader, String lastEventId, Listener listener) throws IOException {
+        String id = lastEventId;
+        String name = null;
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    listener.onEvent(new Event(id, (name != null) ? name : "message", data.toString()));
+                }
+                name = null;
+                data = null;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                listener.onComment(line.substring(1).strip());
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = (colon < 0) ? line : line.substring(0, colon);
+            String value = (colon < 0) ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+            switch (field) {
+                case "id" -> {
+                    if (value.indexOf('\0') < 0) {
+                        id = value.isEmpty() ? null : value;
+                    }
+                }
+                case "event" -> name = value;
+                case "data" -> data = (data == null) ? new StringBuilder(value) : data.append('\n').append(value);
+                default -> {} // Including retry, which callers choose for themselves
+            }
+        }
+    }
+}
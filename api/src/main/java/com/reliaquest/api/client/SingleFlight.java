@@ -0,0 +1,165 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single call. The first caller for a key runs the call, and every
+ * caller that arrives while it is in flight waits for, and shares, its result or failure.
+ *
+ * @param <K> key identifying equivalent calls
+ * @param <V> result of a call
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration waitTimeout;
+
+    private final LongAdder issued = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * @param waitTimeout how long a caller waits for a call issued by another caller
+     */
+    public SingleFlight(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Run the call for this key, or wait for the one already in flight.
+     *
+     * @throws SingleFlightTimeoutException if the in-flight call did not finish within the wait timeout
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        issued.increment();
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Start the asynchronous call for this key, or share the one already in flight. Neither the caller nor the call
+     * blocks; a coalesced caller's future fails with {@link SingleFlightTimeoutException} if the in-flight call does not
+     * finish within the wait timeout.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return awaitAsync(key, existing);
+        }
+
+        issued.increment();
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, failure) -> {
+            inFlight.remove(key, flight);
+            if (failure != null) {
+                flight.completeExceptionally(unwrap(failure));
+            } else {
+                flight.complete(value);
+            }
+        });
+        // Callers get a copy so that none of them can complete the shared flight
+        return flight.copy();
+    }
+
+    private CompletableFuture<V> awaitAsync(K key, CompletableFuture<V> flight) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        flight.copy().orTimeout(waitTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, failure) -> {
+            if (failure == null) {
+                shared.complete(value);
+            } else if (unwrap(failure) instanceof TimeoutException) {
+                timedOut.increment();
+                shared.completeExceptionally(
+                        new SingleFlightTimeoutException("Timed out after " + waitTimeout + " waiting for call: " + key));
+            } else {
+                shared.completeExceptionally(unwrap(failure));
+            }
+        });
+        return shared;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new SingleFlightTimeoutException("Timed out after " + waitTimeout + " waiting for call: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SingleFlightTimeoutException("Interrupted waiting for call: " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Calls that were actually issued.
+     */
+    public long getIssuedCount() {
+        return issued.sum();
+    }
+
+    /**
+     * Calls that shared the result of a call issued by another caller.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Coalesced calls that gave up waiting.
+     */
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    public static class SingleFlightTimeoutException extends RuntimeException {
+
+        public SingleFlightTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Client-side model of the upstream server's request limit, which allows a burst of requests and then answers 429 for
+ * a backoff window measured from the last accepted request.
+ *
+ * The budget learns the burst size from how many requests succeed before a 429. It learns the backoff window by sending
+ * a single probe once its current estimate has elapsed, and lengthening the estimate whenever that probe is rejected.
+ * While the server is known or predicted to be rejecting requests, calls fail fast with
+ * {@link TooManyRequestsException} instead of being sent. Background calls are also deferred, for up to one backoff
+ * window, when they would spend the last requests of a burst, so that those stay available for writes.
+ */
+public class UpstreamBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamBudget.class);
+
+    public enum Priority {
+        /** Creates and deletes. */
+        WRITE,
+        /** Reads a caller is waiting on. */
+        READ,
+        /** Scheduled refreshes, which can simply try again later. */
+        BACKGROUND
+    }
+
+    private final Clock clock;
+
+    private final Duration maxBackoff;
+
+    private final int writeReserve;
+
+    /** Estimated requests per burst, or 0 until the first 429 has been observed. */
+    private int limitEstimate;
+
+    private Duration backoffEstimate;
+
+    /** Requests sent in the current burst. */
+    private int used;
+
+    private Instant lastAccepted;
+
+    /** When the server started rejecting requests, or null while it is accepting them. */
+    private Instant blockedSince;
+
+    /** Whether a probe is in flight to find out if the server accepts requests again. */
+    private boolean probing;
+
+    /** When background calls started being deferred to leave the reserve for writes, or null if they are not. */
+    private Instant backgroundDeferredSince;
+
+    /**
+     * @param initialBackoff backoff assumed before any has been observed
+     * @param maxBackoff upper bound for the learned backoff
+     * @param writeReserve requests per burst that background calls leave for writes
+     */
+    public UpstreamBudget(Clock clock, Duration initialBackoff, Duration maxBackoff, int writeReserve) {
+        this.clock = clock;
+        this.backoffEstimate = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.writeReserve = writeReserve;
+    }
+
+    /**
+     * Send a call if the budget allows it, and learn from its outcome.
+     *
+     * @throws TooManyRequestsException if the call was not sent, or was rejected by the server
+     */
+    public <T> T call(Priority priority, Supplier<T> call) {
+        boolean probe = acquire(priority);
+        try {
+            T result = call.get();
+            onAccepted();
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            throw new TooManyRequestsException("Upstream rate limit reached.", onRejected());
+        } finally {
+            if (probe) {
+                endProbe();
+            }
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #call}: send a call that completes a future if the budget allows it, and learn from
+     * its outcome once it completes.
+     *
+     * @return a future that fails with {@link TooManyRequestsException} if the call was not sent, or was rejected by the
+     *     server
+     */
+    public <T> CompletableFuture<T> callAsync(Priority priority, Supplier<CompletableFuture<T>> call) {
+        boolean probe;
+        try {
+            probe = acquire(priority);
+        } catch (TooManyRequestsException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> sent;
+        try {
+            sent = call.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sent.whenComplete((value, failure) -> {
+            try {
+                Throwable cause = (failure instanceof CompletionException && failure.getCause() != null)
+                        ? failure.getCause()
+                        : failure;
+                if (cause == null) {
+                    onAccepted();
+                    result.complete(value);
+                } else if (cause instanceof HttpClientErrorException.TooManyRequests) {
+                    result.completeExceptionally(
+                            new TooManyRequestsException("Upstream rate limit reached.", onRejected()));
+                } else {
+                    result.completeExceptionally(cause);
+                }
+            } finally {
+                if (probe) {
+                    endProbe();
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reserve a request from the budget.
+     *
+     * @return whether the request is a probe
+     */
+    private synchronized boolean acquire(Priority priority) {
+        Instant now = clock.instant();
+        if (blockedSince != null) {
+            if (now.isBefore(blockedUntil())) {
+                throw new TooManyRequestsException(
+                        "Upstream rate limit reached, deferring " + priority.name().toLowerCase() + " call.",
+                        Duration.between(now, blockedUntil()));
+            }
+            if (probing) {
+                throw new TooManyRequestsException(
+                        "Upstream rate limit may have lifted, waiting for probe.", Duration.ofSeconds(1));
+            }
+            probing = true;
+            used++;
+            return true;
+        }
+        if (priority == Priority.BACKGROUND && limitEstimate > 0 && remaining() <= writeReserve) {
+            // The server only resets a burst that was spent, so the reserve is held for one backoff window at most
+            if (backgroundDeferredSince == null) {
+                backgroundDeferredSince = now;
+            }
+            Instant deferredUntil = backgroundDeferredSince.plus(backoffEstimate);
+            if (now.isBefore(deferredUntil)) {
+                throw new TooManyRequestsException(
+                        "Upstream budget reserved for writes, deferring background call.",
+                        Duration.between(now, deferredUntil));
+            }
+        }
+        backgroundDeferredSince = null;
+        used++;
+        return false;
+    }
+
+    private synchronized void onAccepted() {
+        Instant now = clock.instant();
+        if (blockedSince != null) {
+            // A probe got through, so the backoff estimate is long enough; the server does not count the probe
+            blockedSince = null;
+            used = 0;
+            logger.info("[onAccepted] : Upstream accepting requests again, backoff estimate {}.", backoffEstimate);
+        }
+        lastAccepted = now;
+        if (limitEstimate > 0 && used >= limitEstimate) {
+            // The burst is spent; the next request would only be rejected
+            blockedSince = now;
+        }
+    }
+
+    private synchronized Duration onRejected() {
+        Instant now = clock.instant();
+        if (blockedSince == null) {
+            // Every request of the burst but this one was accepted
+            int observedLimit = Math.max(1, used - 1);
+            limitEstimate = (limitEstimate == 0) ? observedLimit : Math.min(limitEstimate, observedLimit);
+            blockedSince = (lastAccepted != null) ? lastAccepted : now;
+        } else {
+            // A probe was rejected, so the backoff is longer than estimated
+            backoffEstimate = min(
+                    max(Duration.between(blockedSince, now), backoffEstimate).multipliedBy(3).dividedBy(2),
+                    maxBackoff);
+        }
+        logger.warn("[onRejected] : Upstream rate limited, limit estimate {}, retrying after {}.",
+                limitEstimate, Duration.between(now, blockedUntil()));
+        return max(Duration.between(now, blockedUntil()), Duration.ZERO);
+    }
+
+    private synchronized void endProbe() {
+        probing = false;
+    }
+
+    private Instant blockedUntil() {
+        return blockedSince.plus(backoffEstimate);
+    }
+
+    private int remaining() {
+        return Math.max(0, limitEstimate - used);
+    }
+
+    /**
+     * Estimated requests left before the server starts rejecting, or -1 while the limit is still unknown.
+     */
+    public synchronized int getRemainingEstimate() {
+        if (blockedSince != null && clock.instant().isBefore(blockedUntil())) {
+            return 0;
+        }
+        return (limitEstimate == 0) ? -1 : remaining();
+    }
+
+    /**
+     * Estimated requests per burst, or 0 while still unknown.
+     */
+    public synchronized int getLimitEstimate() {
+        return limitEstimate;
+    }
+
+    public synchronized Duration getBackoffEstimate() {
+        return backoffEstimate;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return (a.compareTo(b) <= 0) ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return (a.compareTo(b) >= 0) ? a : b;
+    }
+}
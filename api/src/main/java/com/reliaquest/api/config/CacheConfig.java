@@ -0,0 +1,40 @@
+package com.reliaquest.api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed cache manager: every cache is size bounded with W-TinyLFU eviction, expires entries after write and
+ * records hit/miss/eviction statistics (published as {@code cache.*} metrics by actuator).
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeCacheProperties.class)
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    @Bean
+    public CacheManager cacheManager(EmployeeCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(caffeine(properties.defaults()));
+        properties.caches().forEach((name, spec) -> {
+            logger.info("[cacheManager] : Registering cache {} with {}", name, spec);
+            cacheManager.registerCustomCache(name, caffeine(spec).build());
+        });
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> caffeine(EmployeeCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats();
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Micro-batching of creates and deletes, which sends concurrent writes to the upstream server as one request.
+ *
+ * @param enabled whether writes are batched, or each is sent on its own
+ * @param window how long the first write of a batch waits for others to join it
+ * @param maxSize most writes sent in one request
+ */
+@ConfigurationProperties(prefix = "employee.api.batch")
+public record EmployeeBatchProperties(boolean enabled, Duration window, int maxSize) {
+
+    /**
+     * Most writes the upstream server accepts in one batch request.
+     */
+    public static final int MAX_UPSTREAM_BATCH_SIZE = 1000;
+
+    public static final EmployeeBatchProperties DISABLED = new EmployeeBatchProperties(false, null, 0);
+
+    public EmployeeBatchProperties {
+        window = (window != null) ? window : Duration.ofMillis(20);
+        maxSize = (maxSize > 0) ? Math.min(maxSize, MAX_UPSTREAM_BATCH_SIZE) : 100;
+    }
+}
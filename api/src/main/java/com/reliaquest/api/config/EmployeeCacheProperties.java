@@ -0,0 +1,20 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and TTL bounds for the Spring caches behind {@code @Cacheable}, keyed by cache name.
+ * Caches without an entry fall back to {@code defaults}.
+ */
+@ConfigurationProperties(prefix = "employee.cache")
+public record EmployeeCacheProperties(Spec defaults, Map<String, Spec> caches) {
+
+    public EmployeeCacheProperties {
+        defaults = (defaults != null) ? defaults : new Spec(1000, Duration.ofMinutes(5));
+        caches = (caches != null) ? caches : Map.of();
+    }
+
+    public record Spec(long maximumSize, Duration expireAfterWrite) {}
+}
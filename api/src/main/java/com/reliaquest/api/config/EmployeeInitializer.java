@@ -20,6 +20,6 @@ public class EmployeeInitializer implements ApplicationRunner {
     @Override
     public void run(ApplicationArguments args) {
         logger.info("Running EmployeeInitializer...");
-        employeeService.initializeEmployeeCache();
+        employeeService.refreshEmployeeCache();
     }
 }
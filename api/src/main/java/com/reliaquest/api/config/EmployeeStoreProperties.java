@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.store.OffHeapEmployeeStore;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Where the cached employees are kept.
+ *
+ * @param type {@code heap} to keep them as objects, or {@code off-heap} to keep them serialized in direct memory
+ * @param segmentSize direct memory allocated at a time by the off-heap store
+ */
+@ConfigurationProperties(prefix = "employee.api.store")
+public record EmployeeStoreProperties(Type type, DataSize segmentSize) {
+
+    public enum Type {
+        HEAP,
+        OFF_HEAP
+    }
+
+    public EmployeeStoreProperties {
+        type = (type != null) ? type : Type.HEAP;
+        segmentSize = (segmentSize != null) ? segmentSize : DataSize.ofBytes(OffHeapEmployeeStore.DEFAULT_SEGMENT_SIZE);
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection pool and timeout settings for the upstream HTTP client.
+ *
+ * @param connectTimeout time allowed to establish a connection
+ * @param readTimeout longest allowed gap while waiting for response data
+ * @param totalTimeout deadline for a whole exchange, after which it is aborted
+ * @param poolTimeout time allowed to wait for a pooled connection
+ * @param idleTimeout how long an unused pooled connection is kept open
+ * @param maxConnections pooled connections across all routes
+ * @param maxConnectionsPerRoute pooled connections per route, unless overridden in {@code routes}
+ * @param routes per-route connection limits, keyed by scheme, host and port (e.g. {@code http://localhost:8112})
+ */
+@ConfigurationProperties(prefix = "employee.api.http")
+public record HttpClientProperties(
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration totalTimeout,
+        Duration poolTimeout,
+        Duration idleTimeout,
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        Map<String, Integer> routes) {
+
+    public HttpClientProperties {
+        connectTimeout = (connectTimeout != null) ? connectTimeout : Duration.ofSeconds(2);
+        readTimeout = (readTimeout != null) ? readTimeout : Duration.ofSeconds(10);
+        totalTimeout = (totalTimeout != null) ? totalTimeout : Duration.ofSeconds(30);
+        poolTimeout = (poolTimeout != null) ? poolTimeout : Duration.ofSeconds(5);
+        idleTimeout = (idleTimeout != null) ? idleTimeout : Duration.ofSeconds(30);
+        maxConnections = (maxConnections > 0) ? maxConnections : 50;
+        maxConnectionsPerRoute = (maxConnectionsPerRoute > 0) ? maxConnectionsPerRoute : 20;
+        routes = (routes != null) ? routes : Map.of();
+    }
+}
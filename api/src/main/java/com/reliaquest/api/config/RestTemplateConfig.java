@@ -1,14 +1,84 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.AsyncJsonClient;
+import com.reliaquest.api.client.DeadlineClientHttpRequestFactory;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(DeadlineClientHttpRequestFactory upstreamRequestFactory) {
+        return new RestTemplate(upstreamRequestFactory);
+    }
+
+    /**
+     * Pooled, keep-alive Apache HttpClient. Content compression is on by default, so requests advertise gzip and
+     * compressed responses are decoded transparently.
+     */
+    @Bean
+    public DeadlineClientHttpRequestFactory upstreamRequestFactory(HttpClientProperties properties) {
+        return new DeadlineClientHttpRequestFactory(
+                HttpClients.custom()
+                        .setConnectionManager(connectionManager(properties))
+                        .setDefaultRequestConfig(RequestConfig.custom()
+                                .setConnectionRequestTimeout(Timeout.of(properties.poolTimeout()))
+                                .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                                .build())
+                        .evictExpiredConnections()
+                        .evictIdleConnections(TimeValue.of(properties.idleTimeout()))
+                        .build(),
+                properties.totalTimeout());
+    }
+
+    /**
+     * Non-blocking JDK HttpClient for the asynchronous service methods. It keeps connections alive in its own pool and
+     * applies the same connect and total timeouts as the pooled client.
+     */
+    @Bean
+    public AsyncJsonClient asyncJsonClient(HttpClientProperties properties, ObjectMapper objectMapper) {
+        return new AsyncJsonClient(
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(properties.connectTimeout())
+                        .build(),
+                objectMapper,
+                properties.totalTimeout());
+    }
+
+    static PoolingHttpClientConnectionManager connectionManager(HttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        properties.routes().forEach((route, maxConnections) -> {
+            try {
+                connectionManager.setMaxPerRoute(new HttpRoute(HttpHost.create(route)), maxConnections);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid route in employee.api.http.routes: " + route, e);
+            }
+        });
+        return connectionManager;
     }
 }
@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.store.EmployeeStore;
+import com.reliaquest.api.store.HeapEmployeeStore;
+import com.reliaquest.api.store.OffHeapEmployeeStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The store that holds the cached employees, chosen by {@code employee.api.store.type}.
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeStoreProperties.class)
+public class StoreConfig {
+
+    private final Logger logger = LoggerFactory.getLogger(StoreConfig.class);
+
+    @Bean
+    public EmployeeStore employeeStore(EmployeeStoreProperties properties, MeterRegistry meterRegistry) {
+        if (properties.type() == EmployeeStoreProperties.Type.HEAP) {
+            logger.info("[employeeStore] : Keeping cached employees on the heap.");
+            return new HeapEmployeeStore();
+        }
+        OffHeapEmployeeStore store = new OffHeapEmployeeStore(Math.toIntExact(properties.segmentSize().toBytes()));
+        Gauge.builder("employee.store.offheap.allocated", store, OffHeapEmployeeStore::allocatedBytes)
+                .baseUnit("bytes")
+                .description("Direct memory held by the off-heap employee store's current segments")
+                .register(meterRegistry);
+        Gauge.builder("employee.store.offheap.garbage", store, OffHeapEmployeeStore::garbageBytes)
+                .baseUnit("bytes")
+                .description("Bytes of replaced or removed records awaiting compaction")
+                .register(meterRegistry);
+        logger.info(
+                "[employeeStore] : Keeping cached employees off the heap in {} segments.", properties.segmentSize());
+        return store;
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Collaborators that shape how the api calls the upstream employee server.
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeBatchProperties.class)
+public class UpstreamConfig {
+
+    @Bean
+    public SingleFlight<String, Map<EmployeeId, Employee>> employeeFetches(
+            @Value("${employee.api.single-flight.wait-timeout:30s}") Duration waitTimeout, MeterRegistry meterRegistry) {
+        SingleFlight<String, Map<EmployeeId, Employee>> singleFlight = new SingleFlight<>(waitTimeout);
+        registerOutcome(meterRegistry, singleFlight, "issued", SingleFlight::getIssuedCount);
+        registerOutcome(meterRegistry, singleFlight, "coalesced", SingleFlight::getCoalescedCount);
+        registerOutcome(meterRegistry, singleFlight, "timed_out", SingleFlight::getTimedOutCount);
+        return singleFlight;
+    }
+
+    @Bean
+    public UpstreamBudget upstreamBudget(
+            @Value("${employee.api.rate-limit.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${employee.api.rate-limit.max-backoff:2m}") Duration maxBackoff,
+            @Value("${employee.api.rate-limit.write-reserve:1}") int writeReserve,
+            MeterRegistry meterRegistry) {
+        UpstreamBudget upstreamBudget = new UpstreamBudget(Clock.systemUTC(), initialBackoff, maxBackoff, writeReserve);
+        Gauge.builder("employee.upstream.budget.remaining", upstreamBudget, UpstreamBudget::getRemainingEstimate)
+                .description("Estimated upstream requests left before rate limiting, -1 while unknown")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.budget.limit", upstreamBudget, UpstreamBudget::getLimitEstimate)
+                .description("Estimated upstream requests per burst, 0 while unknown")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.budget.backoff", upstreamBudget, budget -> budget.getBackoffEstimate()
+                        .toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .description("Estimated upstream rate limit backoff window")
+                .register(meterRegistry);
+        return upstreamBudget;
+    }
+
+    private static void registerOutcome(
+            MeterRegistry meterRegistry,
+            SingleFlight<String, Map<EmployeeId, Employee>> singleFlight,
+            String outcome,
+            ToLongFunction<SingleFlight<String, Map<EmployeeId, Employee>>> count) {
+        FunctionCounter.builder("employee.upstream.fetches", singleFlight, sf -> count.applyAsLong(sf))
+                .tag("outcome", outcome)
+                .description("Upstream employee list fetches, by whether they were issued or coalesced")
+                .register(meterRegistry);
+    }
+}
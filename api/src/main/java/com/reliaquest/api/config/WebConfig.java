@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.SnapshotResponseInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper;
+
+    public WebConfig(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SnapshotResponseInterceptor(employeeService, objectMapper))
+                .addPathPatterns(SnapshotResponseInterceptor.pathPatterns());
+    }
+}
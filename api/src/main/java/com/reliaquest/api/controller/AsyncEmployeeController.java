@@ -0,0 +1,160 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Serves the same API contract as {@link EmployeeController}, but releases the request thread while waiting on the
+ * upstream server and completes the response when the service's future completes. Enabled instead of
+ * {@link EmployeeController} with {@code employee.api.async.enabled=true}.
+ *
+ * It cannot implement {@link IEmployeeController}, whose methods return {@link ResponseEntity} directly, so the
+ * mappings are repeated here; responses and error statuses match the blocking controller.
+ */
+@RestController
+@ConditionalOnProperty(name = "employee.api.async.enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private final EmployeeService employeeService;
+
+    private final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+
+    @Autowired
+    AsyncEmployeeController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        logger.trace("[getAllEmployee] : Fetching all employees.");
+        return employeeService
+                .getAllEmployeesAsync()
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure -> {
+                    throw translate("getAllEmployee", failure, HttpStatus.INTERNAL_SERVER_ERROR, "Error fetching employees");
+                });
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        logger.trace("[getEmployeesByNameSearch] : Searching employees by name: {}", searchString);
+        return employeeService.getEmployeesByNameAsync(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        logger.trace("[getEmployeeById] : Fetching employee by ID: {}", id);
+        return employeeService.getEmployeeByIdAsync(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        logger.trace("[getHighestSalaryOfEmployees] : Fetching highest salary of employees");
+        return employeeService
+                .getHighestSalaryAsync()
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure -> {
+                    throw translate(
+                            "getHighestSalaryOfEmployees",
+                            failure,
+                            HttpStatus.INTERNAL_SERVER_ERROR,
+                            "Error fetching highest salary");
+                });
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        logger.info("[getTopTenHighestEarningEmployeeNames] : Fetching top ten highest earning employee names");
+        return topHighestEarningEmployeeNames("getTopTenHighestEarningEmployeeNames", 10);
+    }
+
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopHighestEarningEmployeeNames(
+            @RequestParam(value = "n", defaultValue = "10") int n) {
+        logger.trace("[getTopHighestEarningEmployeeNames] : Fetching top {} highest earning employee names", n);
+        if (n < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "n must not be negative.");
+        }
+        return topHighestEarningEmployeeNames("getTopHighestEarningEmployeeNames", n);
+    }
+
+    private CompletableFuture<ResponseEntity<List<String>>> topHighestEarningEmployeeNames(String operation, int n) {
+        return employeeService
+                .getTopHighestEarningEmployeeNamesAsync(n)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure -> {
+                    throw translate(operation, failure, HttpStatus.INTERNAL_SERVER_ERROR, "Error fetching top earners");
+                });
+    }
+
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody Employee employeeInput) {
+        logger.trace("[createEmployee] : Creating employee: {}", employeeInput.getEmployee_name());
+        return employeeService
+                .createEmployeeAsync(employeeInput)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure -> {
+                    throw translate("createEmployee", failure, HttpStatus.BAD_REQUEST, "Error creating employee.");
+                });
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        logger.trace("[deleteEmployeeById] : Deleting employee by ID: {}", id);
+        return employeeService
+                .deleteEmployeeByIdAsync(id)
+                .thenApply(deleted -> {
+                    logger.info("[deleteEmployeeById] : Employee deleted successfully: {}", id);
+                    return ResponseEntity.ok("Employee deleted successfully.");
+                })
+                .exceptionally(failure -> {
+                    throw translate("deleteEmployeeById", failure, HttpStatus.BAD_REQUEST, "Error deleting employee.");
+                });
+    }
+
+    /**
+     * Map a failure to the exception the blocking controller throws for it.
+     */
+    private RuntimeException translate(String operation, Throwable failure, HttpStatus status, String message) {
+        Throwable cause = (failure instanceof CompletionException && failure.getCause() != null)
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof ResourceNotFoundException e) {
+            logger.error("[{}] : {}", operation, e.getMessage());
+            return e;
+        }
+        if (cause instanceof TooManyRequestsException e) {
+            logger.warn("[{}] : {} Retry after {}.", operation, e.getMessage(), e.getRetryAfter());
+            return e;
+        }
+        if (cause instanceof ResponseStatusException e) {
+            return e;
+        }
+        if (cause instanceof HttpStatusCodeException e) {
+            logger.error("[{}] : Request limit reached.", operation);
+            return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+        logger.error("[{}] : {} : {}", operation, message, cause.getMessage(), cause);
+        return new ResponseStatusException(status, message, cause);
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.entity.SalaryQuantiles;
+import com.reliaquest.api.entity.TitleStatistics;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Aggregates over the cached employees, which creates, deletes and cache refreshes keep up to date, so that no query
+ * scans the employees. Kept apart from {@link IEmployeeController}, whose contract is fixed.
+ */
+@RestController
+@RequestMapping("/analytics")
+public class EmployeeAnalyticsController {
+
+    private final EmployeeService employeeService;
+
+    private final Logger logger = LoggerFactory.getLogger(EmployeeAnalyticsController.class);
+
+    EmployeeAnalyticsController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * Count, sum, mean, minimum and maximum of salary and age for every title, ordered by title.
+     */
+    @GetMapping("/titles")
+    public ResponseEntity<List<TitleStatistics>> getTitleStatistics() {
+        logger.trace("[getTitleStatistics] : Fetching statistics of every title.");
+        return ResponseEntity.ok(employeeService.getTitleStatistics());
+    }
+
+    /**
+     * Count, sum, mean, minimum and maximum of salary and age for one title; 404 if no employee has it.
+     */
+    @GetMapping("/titles/{title}")
+    public ResponseEntity<TitleStatistics> getTitleStatistics(@PathVariable String title) {
+        logger.trace("[getTitleStatistics] : Fetching statistics of title: {}", title);
+        return ResponseEntity.ok(employeeService.getTitleStatistics(title));
+    }
+
+    /**
+     * Count, sum, average, minimum and maximum salary of all employees.
+     */
+    @GetMapping("/salaries")
+    public ResponseEntity<IntSummaryStatistics> getSalaryStatistics() {
+        logger.trace("[getSalaryStatistics] : Fetching salary statistics of all employees.");
+        return ResponseEntity.ok(employeeService.getSalaryStatistics());
+    }
+
+    /**
+     * Count, sum, average, minimum and maximum age of all employees.
+     */
+    @GetMapping("/ages")
+    public ResponseEntity<IntSummaryStatistics> getAgeStatistics() {
+        logger.trace("[getAgeStatistics] : Fetching age statistics of all employees.");
+        return ResponseEntity.ok(employeeService.getAgeStatistics());
+    }
+
+    /**
+     * Estimated salaries at the requested quantiles, each between 0 and 1 and defaulting to the median, 90th and 99th
+     * percentiles. The true rank of each estimate is within {@code rankError} times the employee count of the requested
+     * one, with 99% confidence; the bound stays below about 2.5%.
+     */
+    @GetMapping("/salaries/quantiles")
+    public ResponseEntity<SalaryQuantiles> getSalaryQuantiles(
+            @RequestParam(value = "q", defaultValue = "0.5,0.9,0.99") List<Double> quantiles) {
+        logger.trace("[getSalaryQuantiles] : Fetching salary quantiles: {}", quantiles);
+        if (quantiles.stream().anyMatch(quantile -> quantile == null || !(quantile >= 0 && quantile <= 1))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quantiles must be between 0 and 1.");
+        }
+        return ResponseEntity.ok(employeeService.getSalaryQuantiles(quantiles));
+    }
+}
@@ -2,21 +2,24 @@ package com.reliaquest.api.controller;
 
 import com.reliaquest.api.entity.Employee;
 import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
 import com.reliaquest.api.service.EmployeeService;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
+@ConditionalOnProperty(name = "employee.api.async.enabled", havingValue = "false", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, Employee> {
 
     private final EmployeeService employeeService;
@@ -32,11 +35,7 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<List<Employee>> getAllEmployees() {
         try {
             logger.trace("[getAllEmployee] : Fetching all employees.");
-            List<Employee> employees = employeeService.getAllEmployees();
-            Map<String, Object> response = new HashMap<>();
-            response.put("data", employees);
-            response.put("status", "Successfully processed request.");
-            return ResponseEntity.ok().body((List<Employee>) response.get("data"));
+            return ResponseEntity.ok(employeeService.getAllEmployees());
         } catch (Exception e) {
             logger.error("[getAllEmployee] : Error fetching employees", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error fetching employees", e);
@@ -78,11 +77,32 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         }
     }
 
+    /**
+     * Names of the n highest earning employees, highest first. Not part of {@link IEmployeeController}.
+     */
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public ResponseEntity<List<String>> getTopHighestEarningEmployeeNames(
+            @RequestParam(value = "n", defaultValue = "10") int n) {
+        logger.trace("[getTopHighestEarningEmployeeNames] : Fetching top {} highest earning employee names", n);
+        if (n < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "n must not be negative.");
+        }
+        try {
+            return ResponseEntity.ok(employeeService.getTopHighestEarningEmployeeNames(n));
+        } catch (Exception e) {
+            logger.error("[getTopHighestEarningEmployeeNames] : Error fetching top earners", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error fetching top earners", e);
+        }
+    }
+
     @Override
     public ResponseEntity<Employee> createEmployee(@RequestBody Employee employeeInput) {
         logger.trace("[createEmployee] : Creating employee: {}", employeeInput.getEmployee_name());
         try {
             return ResponseEntity.ok(employeeService.createEmployee(employeeInput));
+        } catch (TooManyRequestsException e) {
+            logger.warn("[createEmployee] : {} Retry after {}.", e.getMessage(), e.getRetryAfter());
+            throw e;
         } catch (HttpStatusCodeException e){
             logger.error("[createEmployee] : Request limit reached.");
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -102,6 +122,9 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         } catch (ResourceNotFoundException r) {
             logger.error("[deleteEmployeeById] : Resource not found with id : {}", id);
             throw new ResourceNotFoundException("Resource not found with id : "+id);
+        } catch (TooManyRequestsException e) {
+            logger.warn("[deleteEmployeeById] : {} Retry after {}.", e.getMessage(), e.getRetryAfter());
+            throw e;
         } catch (HttpStatusCodeException e){
             logger.error("[deleteEmployeeById] : Request limit reached.");
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -1,25 +1,29 @@
 package com.reliaquest.api.entity;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.UUID;
 
+/**
+ * An employee, held compactly since every cached employee stays in memory: the id as an {@link EmployeeId}, the name
+ * and email as UTF-8 bytes, and the title from a shared {@link TitleDictionary}. The string getters decode on each
+ * call, so strings are only materialized when an employee is serialized or compared by name.
+ */
 public class Employee {
-    @JsonIgnore
-    private final String id;
 
-    private final String employee_name;
+    private final EmployeeId id;
 
-    private final int employee_salary;
+    private final byte[] name;
 
-    private final int employee_age;
+    private final int salary;
 
-    private final String employee_title;
-    @JsonIgnore
-    private final String employee_email;
+    private final int age;
+
+    private final String title;
+
+    private final byte[] email;
 
     public Employee(
             String employee_name,
@@ -27,11 +31,11 @@ public class Employee {
             int employee_age,
             String employee_title) {
         this.id = null;
-        this.employee_name = employee_name;
-        this.employee_salary = employee_salary;
-        this.employee_age = employee_age;
-        this.employee_title = employee_title;
-        this.employee_email = null;
+        this.name = encode(employee_name);
+        this.salary = employee_salary;
+        this.age = employee_age;
+        this.title = TitleDictionary.pooled(employee_title);
+        this.email = null;
     }
     @JsonCreator
     public Employee(
@@ -42,47 +46,80 @@ public class Employee {
             @JsonProperty("employee_title") String employee_title,
             @JsonProperty("employee_email") String employee_email) {
 
-        this.id = (id != null) ? id : UUID.randomUUID().toString();
-        this.employee_name = employee_name;
-        this.employee_salary = employee_salary;
-        this.employee_age = employee_age;
-        this.employee_title = employee_title;
-        this.employee_email = employee_email;
+        this.id = (id != null) ? EmployeeId.of(id) : EmployeeId.random();
+        this.name = encode(employee_name);
+        this.salary = employee_salary;
+        this.age = employee_age;
+        this.title = TitleDictionary.pooled(employee_title);
+        this.email = encode(employee_email);
+    }
+
+    /**
+     * An employee with an id that is already in compact form, as when it is read back from a store.
+     */
+    public Employee(
+            EmployeeId id,
+            String employee_name,
+            int employee_salary,
+            int employee_age,
+            String employee_title,
+            String employee_email) {
+        this.id = id;
+        this.name = encode(employee_name);
+        this.salary = employee_salary;
+        this.age = employee_age;
+        this.title = TitleDictionary.pooled(employee_title);
+        this.email = encode(employee_email);
+    }
+
+    private static byte[] encode(String value) {
+        return (value != null) ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String decode(byte[] value) {
+        return (value != null) ? new String(value, StandardCharsets.UTF_8) : null;
     }
 
     public String getEmployee_name() {
-        return employee_name;
+        return decode(name);
     }
 
     public String getId() {
+        return (id != null) ? id.toString() : null;
+    }
+
+    /**
+     * The id in compact form, which keys the cache and indexes without building a string.
+     */
+    public EmployeeId employeeId() {
         return id;
     }
 
     public int getEmployee_salary() {
-        return employee_salary;
+        return salary;
     }
 
     public int getEmployee_age() {
-        return employee_age;
+        return age;
     }
 
     public String getEmployee_title() {
-        return employee_title;
+        return title;
     }
 
     public String getEmployee_email() {
-        return employee_email;
+        return decode(email);
     }
 
     @Override
     public String toString() {
         return "Employee{" +
                 "id='" + id + '\'' +
-                ", employee_name='" + employee_name + '\'' +
-                ", employee_salary=" + employee_salary +
-                ", employee_age=" + employee_age +
-                ", employee_title='" + employee_title + '\'' +
-                ", employee_email='" + employee_email + '\'' +
+                ", employee_name='" + getEmployee_name() + '\'' +
+                ", employee_salary=" + salary +
+                ", employee_age=" + age +
+                ", employee_title='" + title + '\'' +
+                ", employee_email='" + getEmployee_email() + '\'' +
                 '}';
     }
 
@@ -91,11 +128,11 @@ public class Employee {
         if (this == obj) return true;
         if (null == obj || getClass() != obj.getClass()) return false;
         Employee employee = (Employee) obj;
-        return Objects.equals(employee_email, employee.employee_email);
+        return Objects.equals(id, employee.id);
     }
 
     @Override
     public int hashCode(){
-        return Objects.hash(employee_email);
+        return Objects.hashCode(id);
     }
 }
@@ -0,0 +1,31 @@
+package com.reliaquest.api.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * A run of consecutive creates and deletes from the upstream change log, read by {@code GET /changes}.
+ *
+ * @param epoch identifies the upstream server run; sequence numbers start over when it changes
+ * @param latest sequence number of the latest upstream change
+ * @param resync whether the requested changes are no longer available, in which case the client must re-read all
+ *     employees and continue from {@code latest}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record EmployeeChanges(String epoch, long latest, boolean resync, List<Change> changes) {
+
+    public EmployeeChanges {
+        changes = (changes == null) ? List.of() : List.copyOf(changes);
+    }
+
+    /**
+     * @param employee the created employee, or null for a delete
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Change(long sequence, Type type, String id, Employee employee) {}
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.entity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Employee id in compact form. An id in canonical UUID form, as the upstream server assigns them, is held as its two
+ * 64-bit halves; any other id is kept as given. Every map of employees is keyed by the employee's own instance, so
+ * the id is stored once per employee.
+ *
+ * Ids order as their strings do: canonical UUIDs are fixed-width lowercase hex, whose string order is the unsigned
+ * order of their bits.
+ */
+public final class EmployeeId implements Comparable<EmployeeId> {
+
+    private static final int UUID_LENGTH = 36;
+
+    private final long mostSignificantBits;
+
+    private final long leastSignificantBits;
+
+    /** The id as given, when it is not a canonical UUID; null otherwise. */
+    private final String other;
+
+    private EmployeeId(long mostSignificantBits, long leastSignificantBits, String other) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.other = other;
+    }
+
+    public static EmployeeId of(String id) {
+        Objects.requireNonNull(id, "id");
+        if (id.length() == UUID_LENGTH) {
+            try {
+                UUID uuid = UUID.fromString(id);
+                // Only an id that converts back unchanged can drop its string, e.g. not one in upper case
+                if (uuid.toString().equals(id)) {
+                    return new EmployeeId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+                }
+            } catch (IllegalArgumentException e) {
+                // Not a UUID, so kept as given
+            }
+        }
+        return new EmployeeId(0, 0, id);
+    }
+
+    /**
+     * The id of the UUID with the given halves.
+     */
+    public static EmployeeId of(long mostSignificantBits, long leastSignificantBits) {
+        return new EmployeeId(mostSignificantBits, leastSignificantBits, null);
+    }
+
+    public static EmployeeId random() {
+        UUID uuid = UUID.randomUUID();
+        return new EmployeeId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+    }
+
+    /**
+     * Whether the id is a canonical UUID, held as its two halves rather than as a string.
+     */
+    public boolean isUuid() {
+        return other == null;
+    }
+
+    public long mostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long leastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    @Override
+    public int compareTo(EmployeeId that) {
+        if (other == null && that.other == null) {
+            int high = Long.compareUnsigned(mostSignificantBits, that.mostSignificantBits);
+            return (high != 0) ? high : Long.compareUnsigned(leastSignificantBits, that.leastSignificantBits);
+        }
+        return toString().compareTo(that.toString());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof EmployeeId that)) return false;
+        return mostSignificantBits == that.mostSignificantBits
+                && leastSignificantBits == that.leastSignificantBits
+                && Objects.equals(other, that.other);
+    }
+
+    @Override
+    public int hashCode() {
+        if (other != null) {
+            return other.hashCode();
+        }
+        long hash = mostSignificantBits ^ leastSignificantBits;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * The id as a string, built on each call for a UUID id.
+     */
+    @Override
+    public String toString() {
+        return (other != null) ? other : new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+}
@@ -28,4 +28,15 @@ public class EmployeeRequest {
     public String getTitle() {
         return title;
     }
+
+    /**
+     * Whether the upstream server will accept the request: a name and title that are not blank, a positive salary, and
+     * an age from 16 to 75. The server rejects a batch as a whole when any request in it is invalid.
+     */
+    public boolean isValid() {
+        return name != null && !name.isBlank()
+                && salary > 0
+                && age >= 16 && age <= 75
+                && title != null && !title.isBlank();
+    }
 }
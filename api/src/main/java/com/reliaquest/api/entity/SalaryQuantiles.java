@@ -0,0 +1,19 @@
+package com.reliaquest.api.entity;
+
+import java.util.List;
+
+/**
+ * Estimated salaries at requested quantiles.
+ *
+ * @param count number of employees the estimates are over
+ * @param rankError bound on how far, as a fraction of count, the true rank of each estimate may be from its quantile,
+ *     holding with 99% confidence
+ */
+public record SalaryQuantiles(long count, double rankError, List<Quantile> quantiles) {
+
+    /**
+     * @param quantile requested quantile, between 0 and 1
+     * @param salary estimated salary at that quantile
+     */
+    public record Quantile(double quantile, int salary) {}
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.entity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of employee titles, which come from a small vocabulary and would otherwise be held as one string per employee.
+ * Titles beyond {@link #MAX_TITLES} are not pooled, so arbitrary input cannot grow the pool without bound.
+ */
+final class TitleDictionary {
+
+    static final int MAX_TITLES = 4096;
+
+    private static final Map<String, String> TITLES = new ConcurrentHashMap<>();
+
+    private TitleDictionary() {}
+
+    /**
+     * The pooled instance equal to the title, pooling it if there is room.
+     */
+    static String pooled(String title) {
+        if (title == null) {
+            return null;
+        }
+        String pooled = TITLES.get(title);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (TITLES.size() >= MAX_TITLES) {
+            return title;
+        }
+        pooled = TITLES.putIfAbsent(title, title);
+        return (pooled != null) ? pooled : title;
+    }
+
+    static int size() {
+        return TITLES.size();
+    }
+}
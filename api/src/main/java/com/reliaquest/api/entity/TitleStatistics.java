@@ -0,0 +1,14 @@
+package com.reliaquest.api.entity;
+
+/**
+ * Salary and age aggregates over every employee with one title.
+ *
+ * @param count number of employees with the title
+ */
+public record TitleStatistics(String title, long count, Measure salary, Measure age) {
+
+    /**
+     * Aggregates of one measure over the employees with the title.
+     */
+    public record Measure(long sum, double mean, int min, int max) {}
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.exceptions;
+
+import java.time.Duration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Estimated time until the upstream server accepts requests again.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
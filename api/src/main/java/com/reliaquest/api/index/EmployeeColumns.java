@@ -0,0 +1,111 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Column-oriented copy of a snapshot's employees for aggregations: salaries and ages as primitive arrays. Row {@code i}
+ * of every column is employee {@code i} of the snapshot.
+ *
+ * Aggregations are plain loops over the arrays. Above {@link #PARALLEL_THRESHOLD} rows, a loop is split into one chunk
+ * per core of the common pool, and the partial results are combined.
+ */
+public final class EmployeeColumns {
+
+    /**
+     * Rows below which an aggregation runs on the calling thread, where splitting costs more than it saves.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    public static final EmployeeColumns EMPTY = of(List.of());
+
+    private final int[] salaries;
+
+    private final int[] ages;
+
+    private EmployeeColumns(int[] salaries, int[] ages) {
+        this.salaries = salaries;
+        this.ages = ages;
+    }
+
+    public static EmployeeColumns of(List<Employee> employees) {
+        int size = employees.size();
+        int[] salaries = new int[size];
+        int[] ages = new int[size];
+        for (int row = 0; row < size; row++) {
+            Employee employee = employees.get(row);
+            salaries[row] = employee.getEmployee_salary();
+            ages[row] = employee.getEmployee_age();
+        }
+        return new EmployeeColumns(salaries, ages);
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public IntSummaryStatistics salaryStatistics() {
+        return statistics(salaries);
+    }
+
+    public IntSummaryStatistics ageStatistics() {
+        return statistics(ages);
+    }
+
+    private IntSummaryStatistics statistics(int[] column) {
+        if (column.length == 0) {
+            return new IntSummaryStatistics();
+        }
+        return aggregate(
+                (from, to) -> {
+                    long sum = 0;
+                    int min = Integer.MAX_VALUE;
+                    int max = Integer.MIN_VALUE;
+                    for (int row = from; row < to; row++) {
+                        int value = column[row];
+                        sum += value;
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                    }
+                    return new IntSummaryStatistics(to - from, min, max, sum);
+                },
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Run {@code aggregator} over every row, in parallel chunks once there are enough rows.
+     */
+    private <A> A aggregate(RangeAggregator<A> aggregator, BinaryOperator<A> combiner) {
+        int size = size();
+        int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), size / (PARALLEL_THRESHOLD / 2));
+        if (size < PARALLEL_THRESHOLD || chunks < 2) {
+            return aggregator.aggregate(0, size);
+        }
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> aggregator.aggregate(
+                        (int) ((long) size * chunk / chunks), (int) ((long) size * (chunk + 1) / chunks)))
+                .reduce(combiner)
+                .orElseThrow();
+    }
+
+    @FunctionalInterface
+    private interface RangeAggregator<A> {
+        A aggregate(int fromRow, int toRow);
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import com.reliaquest.api.store.EmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference between the cached employees and a fresh copy from the API: employees to add, employees whose attributes
+ * changed, and ids to remove.
+ */
+public record EmployeeDelta(List<Employee> added, List<Employee> changed, List<EmployeeId> removed) {
+
+    public static EmployeeDelta between(EmployeeStore current, Map<EmployeeId, Employee> fresh) {
+        List<Employee> added = new ArrayList<>();
+        List<Employee> changed = new ArrayList<>();
+        List<EmployeeId> removed = new ArrayList<>();
+        for (Employee employee : fresh.values()) {
+            Employee existing = current.get(employee.employeeId());
+            if (existing == null) {
+                added.add(employee);
+            } else if (!sameAttributes(existing, employee)) {
+                changed.add(employee);
+            }
+        }
+        for (EmployeeId id : current.ids()) {
+            if (!fresh.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        return new EmployeeDelta(added, changed, removed);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return added.size() + " added, " + changed.size() + " changed, " + removed.size() + " removed";
+    }
+
+    private static boolean sameAttributes(Employee a, Employee b) {
+        return Objects.equals(a.getEmployee_name(), b.getEmployee_name())
+                && a.getEmployee_salary() == b.getEmployee_salary()
+                && a.getEmployee_age() == b.getEmployee_age()
+                && Objects.equals(a.getEmployee_title(), b.getEmployee_title())
+                && Objects.equals(a.getEmployee_email(), b.getEmployee_email());
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.store.EmployeeStore;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, versioned view of every cached employee. A new snapshot is published after each write, so readers can
+ * share one without copying it.
+ *
+ * A snapshot taken from a store only reads the store's employees on the first call to {@link #employees()}, and its
+ * {@link #columns()} are only built once something aggregates over it, so a run of writes with no reads in between pays
+ * for neither. The next write waits for a read in progress, so a snapshot's employees never include part of a write.
+ * A snapshot whose employees were not read before it was superseded answers with those of the snapshot that replaced
+ * it, since its own no longer exist anywhere; its version and {@link #isEmpty()} still describe the write it followed.
+ */
+public final class EmployeeSnapshot {
+
+    public static final EmployeeSnapshot EMPTY = new EmployeeSnapshot(0, List.of());
+
+    private final long version;
+
+    private final boolean empty;
+
+    /**
+     * The employees, or null until first read. Only written while holding this snapshot's lock.
+     */
+    private volatile List<Employee> employees;
+
+    /**
+     * Where the employees are read from on first use, until they are read or this snapshot is superseded. Guarded by
+     * this snapshot's lock.
+     */
+    private EmployeeStore store;
+
+    /**
+     * The snapshot that superseded this one before its employees were read, or null. Guarded by this snapshot's lock.
+     */
+    private EmployeeSnapshot successor;
+
+    private volatile EmployeeColumns columns;
+
+    public EmployeeSnapshot(long version, List<Employee> employees) {
+        this.version = version;
+        this.employees = List.copyOf(employees);
+        this.empty = this.employees.isEmpty();
+    }
+
+    private EmployeeSnapshot(long version, EmployeeStore store) {
+        this.version = version;
+        this.store = store;
+        this.empty = store.isEmpty();
+    }
+
+    public static EmployeeSnapshot of(long version, Collection<Employee> employees) {
+        return new EmployeeSnapshot(version, List.copyOf(employees));
+    }
+
+    /**
+     * A snapshot of the store's current employees, which are only read from it when first asked for.
+     */
+    public static EmployeeSnapshot of(long version, EmployeeStore store) {
+        return new EmployeeSnapshot(version, store);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * The employees, read from the store on first use. An off-heap store's own snapshot is used as is, so its
+     * employees are only decoded when they are read.
+     */
+    public List<Employee> employees() {
+        EmployeeSnapshot snapshot = this;
+        while (true) {
+            List<Employee> read = snapshot.employees;
+            if (read != null) {
+                return read;
+            }
+            EmployeeSnapshot next;
+            synchronized (snapshot) {
+                if (snapshot.employees == null && snapshot.successor == null) {
+                    snapshot.employees = snapshot.store.snapshot();
+                    snapshot.store = null;
+                }
+                if (snapshot.employees != null) {
+                    return snapshot.employees;
+                }
+                next = snapshot.successor;
+            }
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Apply a write to the store this snapshot was taken from, and publish the snapshot that follows it. The caller
+     * serializes writes and passes the same store each time.
+     *
+     * @param publish called with the next snapshot once the write is done, even if it failed
+     */
+    public synchronized void supersede(EmployeeStore store, Runnable write, Consumer<EmployeeSnapshot> publish) {
+        try {
+            write.run();
+        } finally {
+            EmployeeSnapshot next = new EmployeeSnapshot(version + 1, store);
+            if (employees == null) {
+                successor = next;
+                this.store = null;
+            }
+            publish.accept(next);
+        }
+    }
+
+    /**
+     * The same employees in columns, row for row, for aggregations. Built on first use; concurrent first callers may
+     * each build them, and any of the identical results is kept.
+     */
+    public EmployeeColumns columns() {
+        EmployeeColumns built = columns;
+        if (built == null) {
+            built = EmployeeColumns.of(employees());
+            columns = built;
+        }
+        return built;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+}
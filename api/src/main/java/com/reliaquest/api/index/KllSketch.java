@@ -0,0 +1,248 @@
+package com.reliaquest.api.index;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * KLL quantile sketch over int values (Karnin, Lang and Liberty, "Optimal Quantile Approximation in Streams", 2016).
+ *
+ * Values are kept in a stack of compactors. Level h holds values that each stand for 2^h inserted values. When the
+ * sketch is over capacity, the lowest full level is sorted and every other value, from a random start, is promoted to
+ * the level above, halving that level. Capacities shrink by a factor of 2/3 per level below the top, so the sketch
+ * retains O(k) values however many are inserted, and two sketches merge by concatenating their levels and compacting.
+ *
+ * With {@code k = 200}, estimated ranks are within about 1.7% of the number of values inserted, with 99% confidence.
+ */
+public class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private static final int MIN_LEVEL_CAPACITY = 2;
+
+    private final int k;
+
+    private final Random random;
+
+    /** Values of each level, unsorted, in the first {@code sizes[h]} slots. */
+    private int[][] levels = new int[1][];
+
+    private int[] sizes = new int[1];
+
+    private long count;
+
+    private int retained;
+
+    /** Sum of the level capacities, which only change when a level is added. */
+    private int totalCapacity;
+
+    public KllSketch() {
+        this(DEFAULT_K, new Random());
+    }
+
+    /**
+     * @param k accuracy parameter; rank error shrinks roughly as 1/k while retained values grow as 3k
+     * @param random chooses which half of a compacted level is promoted
+     */
+    public KllSketch(int k, Random random) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8: " + k);
+        }
+        this.k = k;
+        this.random = random;
+        levels[0] = new int[k];
+        totalCapacity = capacity(0);
+    }
+
+    /**
+     * Rank error bound of a sketch with accuracy parameter {@code k}, as a fraction of the values inserted, holding
+     * with 99% confidence. The constants are the empirical fit published with the Apache DataSketches KLL sketch.
+     */
+    public static double rankError(int k) {
+        return 2.446 / Math.pow(k, 0.9433);
+    }
+
+    public double rankError() {
+        return rankError(k);
+    }
+
+    public void add(int value) {
+        append(0, value);
+        count++;
+        compactWhileFull();
+    }
+
+    /**
+     * Fold another sketch's values into this one. The result has the accuracy of a sketch that saw both streams.
+     */
+    public void merge(KllSketch other) {
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        compactWhileFull();
+    }
+
+    public void clear() {
+        levels = new int[][] {new int[k]};
+        sizes = new int[1];
+        count = 0;
+        retained = 0;
+        totalCapacity = capacity(0);
+    }
+
+    /**
+     * Number of values inserted.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Number of values the sketch holds, which stays O(k) regardless of {@link #count()}.
+     */
+    public int retained() {
+        return retained;
+    }
+
+    /**
+     * Every retained value with the number of inserted values it stands for, sorted by value.
+     */
+    public WeightedValues weightedValues() {
+        long[] packed = new long[retained];
+        int next = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                // Value in the high half, offset so that it sorts as signed; level in the low half
+                packed[next++] = ((levels[level][i] - (long) Integer.MIN_VALUE) << 32) | level;
+            }
+        }
+        Arrays.sort(packed);
+        int[] values = new int[retained];
+        long[] weights = new long[retained];
+        for (int i = 0; i < retained; i++) {
+            values[i] = (int) ((packed[i] >>> 32) + Integer.MIN_VALUE);
+            weights[i] = 1L << (int) (packed[i] & 0xFFFFFFFFL);
+        }
+        return new WeightedValues(values, weights);
+    }
+
+    /**
+     * Estimated value at the given quantile, or null if nothing was inserted.
+     */
+    public Integer quantile(double quantile) {
+        return weightedValues().quantile(quantile, count);
+    }
+
+    private void append(int level, int value) {
+        while (level >= levels.length) {
+            addLevel();
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(MIN_LEVEL_CAPACITY, levels[level].length * 2));
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        levels[levels.length - 1] = new int[MIN_LEVEL_CAPACITY];
+        totalCapacity = 0;
+        for (int level = 0; level < levels.length; level++) {
+            totalCapacity += capacity(level);
+        }
+    }
+
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compactWhileFull() {
+        while (retained >= totalCapacity) {
+            compact();
+        }
+    }
+
+    /**
+     * Halve the lowest level at or over its capacity, promoting the surviving half one level up.
+     */
+    private void compact() {
+        int level = 0;
+        while (sizes[level] < capacity(level)) {
+            level++;
+        }
+        if (level == levels.length - 1) {
+            // Compacting the top level needs a level above it, which also relaxes every capacity below
+            addLevel();
+        }
+        int[] values = levels[level];
+        int size = sizes[level];
+        // An odd value out stays behind, so the level keeps its exact weight
+        int compacted = size & ~1;
+        Arrays.sort(values, 0, compacted);
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = offset; i < compacted; i += 2) {
+            append(level + 1, values[i]);
+        }
+        if (compacted < size) {
+            values[0] = values[size - 1];
+        }
+        sizes[level] = size - compacted;
+        retained -= compacted;
+    }
+
+    /**
+     * Retained values in ascending order, each with the number of inserted values it stands for. Weights may be
+     * negative, for values that stand for removals.
+     */
+    public record WeightedValues(int[] values, long[] weights) {
+
+        /**
+         * Smallest value whose cumulative weight reaches {@code quantile} of {@code count}, or null if count is zero.
+         */
+        public Integer quantile(double quantile, long count) {
+            if (quantile < 0 || quantile > 1 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException("quantile must be between 0 and 1: " + quantile);
+            }
+            if (count <= 0 || values.length == 0) {
+                return null;
+            }
+            double rank = Math.max(1, Math.ceil(quantile * count));
+            long cumulative = 0;
+            for (int i = 0; i < values.length; i++) {
+                cumulative += weights[i];
+                if (cumulative >= rank) {
+                    return values[i];
+                }
+            }
+            return values[values.length - 1];
+        }
+
+        /**
+         * Values of both, with the other's weights negated, so that cumulative weights count this minus the other.
+         */
+        public WeightedValues minus(WeightedValues other) {
+            int[] merged = new int[values.length + other.values.length];
+            long[] mergedWeights = new long[merged.length];
+            int i = 0;
+            int j = 0;
+            // On equal values the other's go first, so a removal is counted before the insert it cancels is reached
+            for (int next = 0; next < merged.length; next++) {
+                if (j == other.values.length || (i < values.length && values[i] < other.values[j])) {
+                    merged[next] = values[i];
+                    mergedWeights[next] = weights[i++];
+                } else {
+                    merged[next] = other.values[j];
+                    mergedWeights[next] = -other.weights[j++];
+                }
+            }
+            return new WeightedValues(merged, mergedWeights);
+        }
+    }
+}
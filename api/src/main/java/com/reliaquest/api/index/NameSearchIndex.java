@@ -0,0 +1,154 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Trigram inverted index over lower-cased employee names.
+ *
+ * A search for a fragment of three or more characters only inspects the employees listed under the rarest trigram of
+ * the fragment, and each candidate is then confirmed with {@link String#contains}. Shorter fragments fall back to a scan
+ * of the pre-normalized names. Either way the result is exactly the set of employees for which
+ * {@code name.toLowerCase().contains(fragment.toLowerCase())} holds.
+ *
+ * Reads are lock-free; writes are serialized on the index.
+ */
+public class NameSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /** Normalized name of each indexed employee. */
+    private final Map<EmployeeId, String> namesById = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<EmployeeId>> postings = new ConcurrentHashMap<>();
+
+    private final Function<EmployeeId, Employee> employees;
+
+    /**
+     * @param employees looks up the indexed employees by id, so that the index need not keep them alive
+     */
+    public NameSearchIndex(Function<EmployeeId, Employee> employees) {
+        this.employees = employees;
+    }
+
+    /**
+     * Index an employee, replacing any previous entry with the same id.
+     */
+    public synchronized void add(Employee employee) {
+        if (employee.getEmployee_name() == null) {
+            remove(employee.employeeId());
+            return;
+        }
+        String normalized = normalize(employee.getEmployee_name());
+        String previous = namesById.put(employee.employeeId(), normalized);
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            removePostings(employee.employeeId(), previous);
+        }
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            postings.computeIfAbsent(gram(normalized, i), key -> ConcurrentHashMap.newKeySet())
+                    .add(employee.employeeId());
+        }
+    }
+
+    /**
+     * Remove the employee with the given id, if indexed.
+     */
+    public synchronized void remove(EmployeeId id) {
+        String previous = namesById.remove(id);
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+    }
+
+    public synchronized void clear() {
+        namesById.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * Find every indexed employee whose name contains the fragment, ignoring case.
+     */
+    public List<Employee> search(String fragment) {
+        String normalized = normalize(fragment);
+        if (normalized.length() < GRAM_LENGTH) {
+            return scan(normalized);
+        }
+
+        Set<EmployeeId> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            Set<EmployeeId> posting = postings.get(gram(normalized, i));
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        List<Employee> matches = new ArrayList<>();
+        for (EmployeeId id : candidates) {
+            String name = namesById.get(id);
+            if (name != null && name.contains(normalized)) {
+                addIfFound(matches, id);
+            }
+        }
+        return matches;
+    }
+
+    private List<Employee> scan(String normalized) {
+        List<Employee> matches = new ArrayList<>();
+        for (Map.Entry<EmployeeId, String> name : namesById.entrySet()) {
+            if (name.getValue().contains(normalized)) {
+                addIfFound(matches, name.getKey());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Look up a match, which a write may be removing, in which case it is skipped.
+     */
+    private void addIfFound(List<Employee> matches, EmployeeId id) {
+        Employee employee = employees.apply(id);
+        if (employee != null) {
+            matches.add(employee);
+        }
+    }
+
+    private void removePostings(EmployeeId id, String normalized) {
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            postings.computeIfPresent(gram(normalized, i), (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Same normalization the name search has always applied to both sides of the comparison.
+     */
+    private static String normalize(String value) {
+        return value.toLowerCase();
+    }
+
+    /**
+     * Pack three UTF-16 chars into a single key.
+     */
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * Employees ordered by salary, highest first, with ties broken by id.
+ *
+ * Backed by a skip list so the highest salary is read from the head in O(1) and the top N earners are the first N
+ * entries. The index only holds each employee's salary and id, and looks the employees up when it returns them, so it
+ * does not keep employee objects alive. Reads are lock-free; writes are serialized on the index.
+ */
+public class SalaryIndex {
+
+    private static final Comparator<Entry> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(Entry::salary).reversed().thenComparing(Entry::id);
+
+    private final NavigableSet<Entry> bySalary = new ConcurrentSkipListSet<>(BY_SALARY_DESCENDING);
+
+    private final Map<EmployeeId, Entry> byId = new ConcurrentHashMap<>();
+
+    private final Function<EmployeeId, Employee> employees;
+
+    private record Entry(int salary, EmployeeId id) {}
+
+    /**
+     * @param employees looks up the indexed employees by id
+     */
+    public SalaryIndex(Function<EmployeeId, Employee> employees) {
+        this.employees = employees;
+    }
+
+    /**
+     * Index an employee, replacing any previous entry with the same id.
+     */
+    public synchronized void add(Employee employee) {
+        Entry entry = new Entry(employee.getEmployee_salary(), employee.employeeId());
+        Entry previous = byId.put(entry.id(), entry);
+        if (previous != null) {
+            bySalary.remove(previous);
+        }
+        bySalary.add(entry);
+    }
+
+    /**
+     * Remove the employee with the given id, if indexed.
+     */
+    public synchronized void remove(EmployeeId id) {
+        Entry previous = byId.remove(id);
+        if (previous != null) {
+            bySalary.remove(previous);
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        bySalary.clear();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Highest indexed salary, or 0 when the index is empty.
+     */
+    public int highestSalary() {
+        Iterator<Entry> iterator = bySalary.iterator();
+        return iterator.hasNext() ? iterator.next().salary() : 0;
+    }
+
+    /**
+     * The n highest earners, highest first. An earner whose lookup finds nothing, because a write is removing it, is
+     * skipped.
+     */
+    public List<Employee> top(int n) {
+        List<Employee> top = new ArrayList<>(Math.min(n, byId.size()));
+        Iterator<Entry> iterator = bySalary.iterator();
+        while (top.size() < n && iterator.hasNext()) {
+            Employee employee = employees.apply(iterator.next().id());
+            if (employee != null) {
+                top.add(employee);
+            }
+        }
+        return top;
+    }
+}
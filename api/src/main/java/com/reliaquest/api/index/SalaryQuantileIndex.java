@@ -0,0 +1,117 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.SalaryQuantiles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Salary quantiles of the cached employees, estimated from sketches of bounded size that are updated with each
+ * employee added or removed, so that a query never sorts the employees.
+ *
+ * A KLL sketch cannot forget a value, so removed salaries go into a second sketch and a salary's rank is estimated as
+ * its rank among added salaries minus its rank among removed ones. The rank error is then relative to everything
+ * either sketch has seen, so both are rebuilt from the live employees once removals exceed a quarter of them. That
+ * keeps the error within 1.5 times that of a single sketch, about 2.5% of the employee count, at an amortized O(1)
+ * cost per removal.
+ */
+public class SalaryQuantileIndex {
+
+    /**
+     * Removals, as a fraction of the live count, above which the sketches are rebuilt.
+     */
+    static final double REBUILD_RATIO = 0.25;
+
+    private final int k;
+
+    private final Random random;
+
+    private KllSketch added;
+
+    private KllSketch removed;
+
+    public SalaryQuantileIndex() {
+        this(KllSketch.DEFAULT_K, new Random());
+    }
+
+    SalaryQuantileIndex(int k, Random random) {
+        this.k = k;
+        this.random = random;
+        this.added = new KllSketch(k, random);
+        this.removed = new KllSketch(k, random);
+    }
+
+    public synchronized void add(int salary) {
+        added.add(salary);
+    }
+
+    public synchronized void remove(int salary) {
+        removed.add(salary);
+    }
+
+    public synchronized void clear() {
+        added.clear();
+        removed.clear();
+    }
+
+    /**
+     * Replace the sketches with fresh ones of the live employees if removals have grown past
+     * {@link #REBUILD_RATIO} of the live count.
+     *
+     * @param employees the live employees, only read if the sketches are rebuilt
+     * @return whether the sketches were rebuilt
+     */
+    public synchronized boolean rebuildIfDrifted(Supplier<? extends Collection<Employee>> employees) {
+        if (removed.count() <= REBUILD_RATIO * count()) {
+            return false;
+        }
+        added = new KllSketch(k, random);
+        removed = new KllSketch(k, random);
+        employees.get().forEach(employee -> added.add(employee.getEmployee_salary()));
+        return true;
+    }
+
+    /**
+     * Number of salaries currently sketched.
+     */
+    public synchronized long count() {
+        return added.count() - removed.count();
+    }
+
+    /**
+     * Values held across both sketches, which stays O(k) regardless of the employee count.
+     */
+    public synchronized int retained() {
+        return added.retained() + removed.retained();
+    }
+
+    /**
+     * Current rank error bound, as a fraction of {@link #count()}.
+     */
+    public synchronized double rankError() {
+        long count = count();
+        return (count > 0) ? KllSketch.rankError(k) * (added.count() + removed.count()) / count : 0;
+    }
+
+    /**
+     * Estimated salaries at each quantile, in the order given; no estimates when there are no salaries.
+     *
+     * @throws IllegalArgumentException if a quantile is outside 0 to 1
+     */
+    public synchronized SalaryQuantiles quantiles(List<Double> quantiles) {
+        long count = count();
+        KllSketch.WeightedValues values =
+                (removed.count() > 0) ? added.weightedValues().minus(removed.weightedValues()) : added.weightedValues();
+        List<SalaryQuantiles.Quantile> estimates = new ArrayList<>(quantiles.size());
+        for (double quantile : quantiles) {
+            Integer salary = values.quantile(quantile, count);
+            if (salary != null) {
+                estimates.add(new SalaryQuantiles.Quantile(quantile, salary));
+            }
+        }
+        return new SalaryQuantiles(count, rankError(), estimates);
+    }
+}
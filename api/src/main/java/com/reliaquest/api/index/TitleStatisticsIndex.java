@@ -0,0 +1,134 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import com.reliaquest.api.entity.TitleStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Salary and age aggregates per title, updated with each employee added or removed, so that a query only reads the
+ * aggregates and never visits the employees.
+ *
+ * Counts and sums change in O(1). Minimums and maximums are kept in a sorted multiset of the values per title, so they
+ * change in O(log d) for d distinct values of that title. Employees without a title are not aggregated.
+ */
+public class TitleStatisticsIndex {
+
+    /** What each aggregated employee contributed, to take back out when it changes or is removed. */
+    private final Map<EmployeeId, Member> byId = new HashMap<>();
+
+    private final Map<String, Aggregate> byTitle = new HashMap<>();
+
+    /**
+     * Aggregate an employee, replacing any previous entry with the same id.
+     */
+    public synchronized void add(Employee employee) {
+        Member member =
+                new Member(employee.getEmployee_title(), employee.getEmployee_salary(), employee.getEmployee_age());
+        Member previous = byId.put(employee.employeeId(), member);
+        if (previous != null) {
+            subtract(previous);
+        }
+        if (member.title() != null) {
+            byTitle.computeIfAbsent(member.title(), title -> new Aggregate()).add(member);
+        }
+    }
+
+    /**
+     * Remove the employee with the given id, if aggregated.
+     */
+    public synchronized void remove(EmployeeId id) {
+        Member previous = byId.remove(id);
+        if (previous != null) {
+            subtract(previous);
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        byTitle.clear();
+    }
+
+    /**
+     * Aggregates of every title, ordered by title.
+     */
+    public synchronized List<TitleStatistics> all() {
+        return new TreeMap<>(byTitle)
+                .entrySet().stream()
+                .map(entry -> entry.getValue().statistics(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * Aggregates of one title, or null if no employee has it.
+     */
+    public synchronized TitleStatistics get(String title) {
+        Aggregate aggregate = byTitle.get(title);
+        return (aggregate != null) ? aggregate.statistics(title) : null;
+    }
+
+    private void subtract(Member member) {
+        Aggregate aggregate = (member.title() != null) ? byTitle.get(member.title()) : null;
+        if (aggregate != null && aggregate.remove(member) == 0) {
+            byTitle.remove(member.title());
+        }
+    }
+
+    private record Member(String title, int salary, int age) {}
+
+    private static final class Aggregate {
+
+        private long count;
+
+        private final Values salaries = new Values();
+
+        private final Values ages = new Values();
+
+        void add(Member member) {
+            count++;
+            salaries.add(member.salary());
+            ages.add(member.age());
+        }
+
+        /**
+         * @return the number of employees left
+         */
+        long remove(Member member) {
+            count--;
+            salaries.remove(member.salary());
+            ages.remove(member.age());
+            return count;
+        }
+
+        TitleStatistics statistics(String title) {
+            return new TitleStatistics(title, count, salaries.measure(count), ages.measure(count));
+        }
+    }
+
+    /**
+     * Running sum of one measure, and how many employees have each value.
+     */
+    private static final class Values {
+
+        private long sum;
+
+        private final TreeMap<Integer, Integer> counts = new TreeMap<>();
+
+        void add(int value) {
+            sum += value;
+            counts.merge(value, 1, Integer::sum);
+        }
+
+        void remove(int value) {
+            sum -= value;
+            counts.computeIfPresent(value, (key, count) -> (count == 1) ? null : count - 1);
+        }
+
+        TitleStatistics.Measure measure(long count) {
+            return new TitleStatistics.Measure(sum, (double) sum / count, counts.firstKey(), counts.lastKey());
+        }
+    }
+}
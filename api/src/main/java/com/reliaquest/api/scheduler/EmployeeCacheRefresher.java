@@ -4,6 +4,7 @@ import com.reliaquest.api.controller.EmployeeController;
 import com.reliaquest.api.service.EmployeeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,13 +16,27 @@ public class EmployeeCacheRefresher {
 
     private final EmployeeService employeeService;
 
-    public EmployeeCacheRefresher(EmployeeService employeeService) {
+    private final ObjectProvider<EmployeeEventSubscriber> eventSubscriber;
+
+    public EmployeeCacheRefresher(
+            EmployeeService employeeService, ObjectProvider<EmployeeEventSubscriber> eventSubscriber) {
         this.employeeService = employeeService;
+        this.eventSubscriber = eventSubscriber;
     }
 
+    /**
+     * Applies the upstream changes made since the last refresh, or re-reads every employee when they are not available.
+     * Skipped while the event stream is pushing changes as they happen and the cache is in sync with them; a cache that
+     * fell behind is caught up here even while the stream is connected.
+     */
     @Scheduled(fixedRate = 300000) // Refresh every 5 minutes
     public void refreshEmployees() {
+        EmployeeEventSubscriber subscriber = eventSubscriber.getIfAvailable();
+        if (subscriber != null && subscriber.isConnected() && employeeService.isSynced()) {
+            logger.debug("[refreshEmployees] : employee events are streaming, skipping refresh.");
+            return;
+        }
         logger.info("[refreshEmployees] : refreshing employees data.");
-        employeeService.initializeEmployeeCache();
+        employeeService.refreshEmployeeCache();
     }
 }
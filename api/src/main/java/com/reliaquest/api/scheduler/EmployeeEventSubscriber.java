@@ -0,0 +1,322 @@
+package com.reliaquest.api.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.ServerSentEventReader;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.client.UpstreamBudget.Priority;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.entity.EmployeeChanges;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Keeps a long-lived subscription to the upstream server's employee event stream and applies each pushed create and
+ * delete to the cache as it arrives. When the stream drops, it reconnects with {@code Last-Event-ID} so the server
+ * replays what was missed, backing off while the server is unavailable. While there is no stream,
+ * {@link EmployeeCacheRefresher} keeps the cache fresh by polling.
+ *
+ * A connection attempt counts against the upstream rate limit like any other call. A stream that has been silent for
+ * longer than {@code idleTimeout}, despite the server's heartbeats, is assumed dead and replaced.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.api.events.enabled", havingValue = "true")
+public class EmployeeEventSubscriber implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeEventSubscriber.class);
+
+    private final EmployeeService employeeService;
+
+    private final UpstreamBudget upstreamBudget;
+
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient httpClient;
+
+    private final URI eventsUrl;
+
+    private final Duration reconnectDelay;
+
+    private final Duration maxReconnectDelay;
+
+    private final Duration idleTimeout;
+
+    private volatile boolean running;
+
+    private volatile boolean connected;
+
+    private volatile Thread subscriber;
+
+    private volatile InputStream stream;
+
+    private volatile long lastReceivedNanos;
+
+    private ScheduledExecutorService watchdog;
+
+    /**
+     * Id of the last event received, sent as {@code Last-Event-ID} to resume. Only used by the subscriber thread.
+     */
+    private String lastEventId;
+
+    public EmployeeEventSubscriber(
+            EmployeeService employeeService,
+            UpstreamBudget upstreamBudget,
+            ObjectMapper objectMapper,
+            HttpClientProperties httpClientProperties,
+            @Value("${employee.api.events.url:http://localhost:8112/api/v1/employee/events}") URI eventsUrl,
+            @Value("${employee.api.events.reconnect-delay:1s}") Duration reconnectDelay,
+            @Value("${employee.api.events.max-reconnect-delay:1m}") Duration maxReconnectDelay,
+            @Value("${employee.api.events.idle-timeout:45s}") Duration idleTimeout) {
+        this.employeeService = employeeService;
+        this.upstreamBudget = upstreamBudget;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(httpClientProperties.connectTimeout())
+                .build();
+        this.eventsUrl = eventsUrl;
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Whether events are currently streaming in, so that polling is unnecessary.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        subscriber = new Thread(this::subscribeUntilStopped, "employee-events");
+        subscriber.setDaemon(true);
+        subscriber.start();
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-events-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkMillis = Math.max(1, idleTimeout.toMillis() / 3);
+        watchdog.scheduleAtFixedRate(this::closeIfIdle, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watchdog.shutdownNow();
+        closeStream();
+        subscriber.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void subscribeUntilStopped() {
+        Duration delay = reconnectDelay;
+        while (running) {
+            Duration wait = delay;
+            try {
+                subscribe();
+                // The stream was established and has ended, typically on the server's subscription timeout
+                delay = reconnectDelay;
+                wait = delay;
+            } catch (HttpClientErrorException.NotFound e) {
+                logger.warn("[subscribe] : API has no employee event stream, polling for changes instead.");
+                running = false;
+                return;
+            } catch (TooManyRequestsException e) {
+                wait = max(delay, e.getRetryAfter());
+                logger.warn("[subscribe] : {} Retrying the employee event stream in {}.", e.getMessage(), wait);
+            } catch (IOException | RuntimeException e) {
+                if (running) {
+                    logger.warn("[subscribe] : Employee event stream unavailable, polling until it reconnects: {}",
+                            e.getMessage());
+                }
+            } finally {
+                connected = false;
+                stream = null;
+            }
+
+            Thread.interrupted(); // Clear an interrupt used to abort a blocked read
+            // The watchdog's interrupt can also arrive after that, and only cuts the wait short; stop() clears running
+            sleep(wait);
+            if (!running) {
+                return;
+            }
+            delay = min(delay.multipliedBy(2), maxReconnectDelay);
+        }
+    }
+
+    /**
+     * Open the event stream and apply its events until it ends.
+     */
+    private void subscribe() throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(eventsUrl)
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<InputStream> response = upstreamBudget.call(Priority.BACKGROUND, () -> open(request.build()));
+
+        try (InputStream body = response.body()) {
+            stream = body;
+            lastReceivedNanos = System.nanoTime();
+            connected = true;
+            logger.info("[subscribe] : Subscribed to employee events{}.",
+                    (lastEventId != null) ? " after " + lastEventId : "");
+            ServerSentEventReader.read(
+                    new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                    lastEventId,
+                    new ServerSentEventReader.Listener() {
+                        @Override
+                        public void onEvent(ServerSentEventReader.Event event) {
+                            lastReceivedNanos = System.nanoTime();
+                            apply(event);
+                            lastEventId = event.id();
+                            lastReceivedNanos = System.nanoTime();
+                        }
+
+                        @Override
+                        public void onComment(String comment) {
+                            lastReceivedNanos = System.nanoTime();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Send the subscription request, failing the way {@code RestTemplate} does so the rate limit budget learns from
+     * rejections.
+     */
+    private HttpResponse<InputStream> open(HttpRequest request) {
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while subscribing to employee events", e);
+        }
+        if (response.statusCode() == HttpStatus.OK.value()) {
+            return response;
+        }
+        try {
+            response.body().close();
+        } catch (IOException e) {
+            // The status is what matters
+        }
+        HttpStatus status = HttpStatus.resolve(response.statusCode());
+        if (status != null && status.is4xxClientError()) {
+            throw HttpClientErrorException.create(
+                    status, status.getReasonPhrase(), new HttpHeaders(), new byte[0], StandardCharsets.UTF_8);
+        }
+        throw new RestClientException("Employee event stream returned status " + response.statusCode());
+    }
+
+    private void apply(ServerSentEventReader.Event event) {
+        switch (event.name()) {
+            case "change" -> {
+                String epoch = epochOf(event.id());
+                boolean applied;
+                try {
+                    EmployeeChanges.Change change = objectMapper.readValue(event.data(), EmployeeChanges.Change.class);
+                    applied = epoch != null && employeeService.applyPushedChange(epoch, change);
+                } catch (IOException e) {
+                    logger.warn("[subscribe] : Unreadable employee event {}: {}", event.id(), e.getMessage());
+                    applied = false;
+                }
+                if (!applied) {
+                    employeeService.refreshEmployeeCache();
+                }
+            }
+            case "resync" -> employeeService.refreshEmployeeCache();
+            default -> logger.debug("[subscribe] : Ignoring employee event of type {}.", event.name());
+        }
+    }
+
+    /**
+     * The epoch part of an event id of the form {@code <epoch>:<sequence>}, or null.
+     */
+    private static String epochOf(String eventId) {
+        int separator = (eventId != null) ? eventId.lastIndexOf(':') : -1;
+        return (separator > 0) ? eventId.substring(0, separator) : null;
+    }
+
+    private void closeIfIdle() {
+        if (connected && System.nanoTime() - lastReceivedNanos > idleTimeout.toNanos()) {
+            logger.warn("[subscribe] : No employee events or heartbeats for {}, reconnecting.", idleTimeout);
+            closeStream();
+            Thread thread = subscriber;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private void closeStream() {
+        InputStream current = stream;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // Closing only serves to end a blocked read
+            }
+        }
+    }
+
+    /**
+     * Wait before reconnecting, returning early if interrupted. The interrupt is not kept, since whether to go on is
+     * decided by {@code running}.
+     */
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            // Checked by the caller through running
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return (a.compareTo(b) <= 0) ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return (a.compareTo(b) >= 0) ? a : b;
+    }
+}
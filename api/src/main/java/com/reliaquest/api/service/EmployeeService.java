@@ -1,22 +1,53 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.client.AsyncJsonClient;
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.client.MicroBatcher;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.client.UpstreamBudget.Priority;
+import com.reliaquest.api.config.EmployeeBatchProperties;
 import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeChanges;
+import com.reliaquest.api.entity.EmployeeId;
 import com.reliaquest.api.entity.EmployeeRequest;
+import com.reliaquest.api.entity.SalaryQuantiles;
+import com.reliaquest.api.entity.TitleStatistics;
 import com.reliaquest.api.exceptions.ResourceNotFoundException;
-
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import com.reliaquest.api.index.EmployeeDelta;
+import com.reliaquest.api.index.EmployeeSnapshot;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.index.SalaryQuantileIndex;
+import com.reliaquest.api.index.TitleStatisticsIndex;
+import com.reliaquest.api.store.EmployeeStore;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
 public class EmployeeService {
@@ -28,74 +59,559 @@ public class EmployeeService {
 
     private final String BASE_URL = "http://localhost:8112/api/v1/employee";
 
-    private final Set<Employee> employeeCache = ConcurrentHashMap.newKeySet();
+    private final String BATCH_URL = BASE_URL + "/batch";
+
+    /**
+     * Most changes requested from the upstream change log at once.
+     */
+    private static final int CHANGE_PAGE_SIZE = 1000;
+
+    /**
+     * Most pages of changes read in one refresh, after which the rest wait for the next refresh.
+     */
+    private static final int MAX_CHANGE_PAGES = 10;
+
+    private static final RequestCallback ACCEPT_JSON =
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+
+    /**
+     * Primary-key store of cached employees, keyed by employee id, on or off the heap as configured.
+     */
+    private final EmployeeStore employeeCache;
+
+    /**
+     * Trigram index over employee names, kept in step with employeeCache.
+     */
+    private final NameSearchIndex nameIndex;
+
+    /**
+     * Salary-ordered index, kept in step with employeeCache.
+     */
+    private final SalaryIndex salaryIndex;
+
+    /**
+     * Salary and age aggregates per title, kept in step with employeeCache.
+     */
+    private final TitleStatisticsIndex titleStatistics = new TitleStatisticsIndex();
+
+    /**
+     * Salary quantile sketches of bounded size, kept in step with employeeCache.
+     */
+    private final SalaryQuantileIndex salaryQuantiles = new SalaryQuantileIndex();
+
+    /**
+     * Serializes writers. Readers never take it unless they overlap a write.
+     */
+    private final Object writeLock = new Object();
 
-    public EmployeeService(RestTemplate restTemplate) {
+    /**
+     * Odd while a write is being applied, even otherwise. Readers compare it before and after a query to detect that
+     * they overlapped a write.
+     */
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private volatile EmployeeSnapshot snapshot = EmployeeSnapshot.EMPTY;
+
+    /**
+     * Coalesces concurrent fetches of the full employee list into one upstream call.
+     */
+    private final SingleFlight<String, Map<EmployeeId, Employee>> employeeFetches;
+
+    /**
+     * Client-side estimate of the upstream rate limit, consulted before every upstream call.
+     */
+    private final UpstreamBudget upstreamBudget;
+
+    /**
+     * Non-blocking client backing the asynchronous variants of the service methods and batched writes.
+     */
+    private final AsyncJsonClient asyncClient;
+
+    /**
+     * Point in the upstream change log the cache is current with, or null until the cache has been resynced.
+     */
+    private volatile ChangeLogPosition changeLogPosition;
+
+    /**
+     * Whether the last catch-up with the change log reached its latest change and no pushed change has since been found
+     * not to follow on.
+     */
+    private volatile boolean caughtUp;
+
+    /**
+     * Set once the upstream server turns out to have no change log, after which refreshes re-read every employee.
+     */
+    private volatile boolean changeLogUnavailable;
+
+    /**
+     * Keeps refreshes and pushed changes from overlapping; a refresh that finds one in progress is skipped.
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * Collects concurrent creates into one upstream request, or null when writes are not batched.
+     */
+    private final MicroBatcher<EmployeeRequest, Employee> createBatcher;
+
+    /**
+     * Collects concurrent deletes into one upstream request, or null when writes are not batched.
+     */
+    private final MicroBatcher<String, Boolean> deleteBatcher;
+
+    private record ChangeLogPosition(String epoch, long sequence) {}
+
+    public EmployeeService(
+            RestTemplate restTemplate,
+            SingleFlight<String, Map<EmployeeId, Employee>> employeeFetches,
+            UpstreamBudget upstreamBudget,
+            AsyncJsonClient asyncClient,
+            EmployeeBatchProperties batchProperties,
+            EmployeeStore employeeStore) {
         this.restTemplate = restTemplate;
+        this.employeeCache = employeeStore;
+        this.nameIndex = new NameSearchIndex(employeeStore::get);
+        this.salaryIndex = new SalaryIndex(employeeStore::get);
+        this.employeeFetches = employeeFetches;
+        this.upstreamBudget = upstreamBudget;
+        this.asyncClient = asyncClient;
+        if (batchProperties.enabled()) {
+            ScheduledExecutorService batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-batches");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.createBatcher = new MicroBatcher<>(
+                    batchProperties.window(), batchProperties.maxSize(), batchScheduler, this::sendCreates);
+            this.deleteBatcher = new MicroBatcher<>(
+                    batchProperties.window(), batchProperties.maxSize(), batchScheduler, this::sendDeletes);
+        } else {
+            this.createBatcher = null;
+            this.deleteBatcher = null;
+        }
     }
 
     /**
      * This method will be called externally by EmployeeInitializer
      * to populate cache when the application starts.
      */
+    @CacheEvict(
+            value = {"employee", "employees"},
+            allEntries = true)
     public void initializeEmployeeCache() {
+        reloadEmployeeCache();
+    }
+
+    /**
+     * Bring the cache up to date with the upstream change log, applying only what changed since the last refresh. The
+     * first refresh, and any refresh that finds the change log has moved on too far or the upstream server restarted,
+     * re-reads every employee instead. Called externally by EmployeeInitializer and EmployeeCacheRefresher.
+     */
+    @CacheEvict(
+            value = {"employee", "employees"},
+            allEntries = true)
+    public void refreshEmployeeCache() {
+        if (!refreshLock.tryLock()) {
+            logger.info("[refreshEmployeeCache] : A refresh is already in progress.");
+            return;
+        }
+        try {
+            if (changeLogUnavailable) {
+                reloadEmployeeCache();
+            } else {
+                applyChangesSince(changeLogPosition);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Whether the cache has caught up with the upstream change log and has not missed a change since, so that applying
+     * pushed changes keeps it current. False until the first successful refresh, after a refresh that failed or did not
+     * reach the latest change, and after a pushed change that did not follow on, until a refresh catches up again.
+     */
+    public boolean isSynced() {
+        return caughtUp && changeLogPosition != null;
+    }
+
+    /**
+     * Apply a change pushed by the upstream server if it directly follows the cache's position in the change log.
+     * Changes the cache already has are ignored.
+     *
+     * @param epoch the upstream server run the change belongs to
+     * @return false if the change does not follow on, because the cache has not synced with this epoch or has missed
+     *     changes, in which case the caller should refresh the cache and nothing is evicted from the Spring caches
+     */
+    @Caching(
+            evict = {
+                @CacheEvict(value = "employee", key = "#change.id()", condition = "#result"),
+                @CacheEvict(value = "employees", allEntries = true, condition = "#result")
+            })
+    public boolean applyPushedChange(String epoch, EmployeeChanges.Change change) {
+        refreshLock.lock();
+        try {
+            ChangeLogPosition position = changeLogPosition;
+            if (position == null
+                    || !position.epoch().equals(epoch)
+                    || change.sequence() > position.sequence() + 1) {
+                caughtUp = false;
+                return false;
+            }
+            if (change.sequence() == position.sequence() + 1) {
+                write(() -> applyChanges(List.of(change)));
+                changeLogPosition = new ChangeLogPosition(epoch, change.sequence());
+            }
+            return true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void applyChangesSince(ChangeLogPosition position) {
+        caughtUp = false;
+        for (int page = 0; page < MAX_CHANGE_PAGES; page++) {
+            EmployeeChanges changes;
+            try {
+                changes = fetchChanges(position);
+            } catch (HttpClientErrorException.NotFound e) {
+                logger.warn("[refreshEmployeeCache] : API has no change log, falling back to full refreshes.");
+                changeLogUnavailable = true;
+                changeLogPosition = null;
+                reloadEmployeeCache();
+                return;
+            } catch (RuntimeException e) {
+                logFetchFailure(e);
+                return; // Try again on the next refresh
+            }
+
+            if (changes.resync()) {
+                // The list must be read after latest, so rather than join a fetch that may have started before it,
+                // make a new one. Changes made while re-reading are applied again by the next refresh, harmlessly
+                logger.info("[refreshEmployeeCache] : Resyncing with change log {} at {}.",
+                        changes.epoch(), changes.latest());
+                changeLogPosition = reloadEmployeeCache(fetchAllEmployeesFromAPI(Priority.BACKGROUND))
+                        ? new ChangeLogPosition(changes.epoch(), changes.latest())
+                        : null;
+                caughtUp = changeLogPosition != null;
+                return;
+            }
+
+            if (!changes.changes().isEmpty()) {
+                write(() -> applyChanges(changes.changes()));
+                position = new ChangeLogPosition(
+                        changes.epoch(), changes.changes().get(changes.changes().size() - 1).sequence());
+                changeLogPosition = position;
+                logger.info("[refreshEmployeeCache] : Applied {} changes up to {}, snapshot version {}.",
+                        changes.changes().size(), position.sequence(), snapshot.version());
+            }
+            if (changes.changes().isEmpty() || position.sequence() >= changes.latest()) {
+                caughtUp = position != null;
+                return;
+            }
+        }
+    }
+
+    private EmployeeChanges fetchChanges(ChangeLogPosition position) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(BASE_URL)
+                .path("/changes")
+                .queryParam("limit", CHANGE_PAGE_SIZE);
+        if (position != null) {
+            uri.queryParam("epoch", position.epoch()).queryParam("since", position.sequence());
+        }
+        EmployeeChangesResponse response = upstreamBudget.call(
+                Priority.BACKGROUND,
+                () -> restTemplate.getForObject(uri.toUriString(), EmployeeChangesResponse.class));
+        if (response == null || response.getData() == null) {
+            throw new RestClientException("API returned no change log data");
+        }
+        return response.getData();
+    }
+
+    private void applyChanges(List<EmployeeChanges.Change> changes) {
+        for (EmployeeChanges.Change change : changes) {
+            if (change.type() == EmployeeChanges.Type.CREATED && change.employee() != null) {
+                cacheEmployee(change.employee());
+            } else if (change.type() == EmployeeChanges.Type.DELETED) {
+                evictEmployee(change.id());
+            }
+        }
+    }
+
+    /**
+     * Re-read every employee and apply the difference to the cache.
+     *
+     * @return whether the API returned employees; if not, the cache is left as it was
+     */
+    private boolean reloadEmployeeCache() {
         logger.info("[initializeEmployeeCache] : Initializing employee cache...");
 
         // Fetch fresh employees from API
-        Set<Employee> freshEmployees = new HashSet<>(fetchAllEmployeesFromAPI());
+        return reloadEmployeeCache(fetchAllEmployees(Priority.BACKGROUND));
+    }
+
+    /**
+     * Apply the difference between freshly read employees and the cache.
+     *
+     * @return whether the API returned employees; if not, the cache is left as it was
+     */
+    private boolean reloadEmployeeCache(Map<EmployeeId, Employee> freshEmployees) {
+        if (freshEmployees.isEmpty()) {
+            if (!employeeCache.isEmpty()) {
+                logger.warn("[initializeEmployeeCache] : API returned no employees, keeping {} cached employees.",
+                        employeeCache.size());
+            }
+            return false;
+        }
 
-        // Retain only employees that exist in API or were manually added
-        employeeCache.retainAll(freshEmployees); // Removes employees no longer in API
+        EmployeeDelta delta;
+        synchronized (writeLock) {
+            // Diff against the cache under the write lock so no concurrent write is lost or undone
+            delta = EmployeeDelta.between(employeeCache, freshEmployees);
+            if (!delta.isEmpty()) {
+                write(() -> applyDelta(delta));
+            }
+        }
 
-        // Add new employees that were fetched from API
-        employeeCache.addAll(freshEmployees);
+        logger.info("[initializeEmployeeCache] : Refreshed employee cache: {}, {} cached, snapshot version {}.",
+                delta, employeeCache.size(), snapshot.version());
+        return true;
+    }
 
-        logEmployeeRecords();
-        logger.info("Size of cache after refresh: " + employeeCache.size());
+    /**
+     * Fetch employees from API keyed by id, sharing the result of a fetch already in flight.
+     */
+    private Map<EmployeeId, Employee> fetchAllEmployees(Priority priority) {
+        try {
+            return employeeFetches.execute("employees", () -> fetchAllEmployeesFromAPI(priority));
+        } catch (SingleFlight.SingleFlightTimeoutException e) {
+            logger.error("[fetchAllEmployees] : {}", e.getMessage());
+            return Collections.emptyMap();
+        }
     }
 
     /**
-     * Fetch employees from API and log them.
+     * Fetch employees from API, streaming the response straight into a map keyed by id.
      */
-    private List<Employee> fetchAllEmployeesFromAPI() {
+    private Map<EmployeeId, Employee> fetchAllEmployeesFromAPI(Priority priority) {
         logger.info("[fetchAllEmployeesFromAPI] : Fetching all employees from API...");
 
         try {
-            ResponseEntity<EmployeeResponse> response = restTemplate.getForEntity(BASE_URL, EmployeeResponse.class);
-            return response.getBody().getData();
-        } catch (ResourceAccessException e) { // Catches timeout-related exceptions
+            return upstreamBudget.call(
+                    priority,
+                    () -> restTemplate.execute(
+                            BASE_URL, HttpMethod.GET, ACCEPT_JSON, response -> readEmployees(response.getBody())));
+        } catch (RuntimeException e) {
+            logFetchFailure(e);
+            return Collections.emptyMap(); // Return an empty map to prevent null pointer issues
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchAllEmployees}, which never blocks the calling thread.
+     */
+    private CompletableFuture<Map<EmployeeId, Employee>> fetchAllEmployeesAsync(Priority priority) {
+        return employeeFetches
+                .executeAsync("employees", () -> {
+                    logger.info("[fetchAllEmployeesAsync] : Fetching all employees from API...");
+                    return upstreamBudget.callAsync(
+                            priority, () -> asyncClient.get(BASE_URL, EmployeeService::readEmployees));
+                })
+                .exceptionally(failure -> {
+                    logFetchFailure(unwrap(failure));
+                    return Collections.emptyMap();
+                });
+    }
+
+    private static void logFetchFailure(Throwable failure) {
+        if (failure instanceof TooManyRequestsException e) { // Rate limited, or deferred to stay within the rate limit
+            logger.warn("[fetchAllEmployeesFromAPI] : {} Retry after {}.", e.getMessage(), e.getRetryAfter());
+        } else if (failure instanceof SingleFlight.SingleFlightTimeoutException) {
+            logger.error("[fetchAllEmployees] : {}", failure.getMessage());
+        } else if (failure instanceof ResourceAccessException) { // Catches timeout-related exceptions
             logger.error("[fetchAllEmployeesFromAPI] : API request timed out. Unable to fetch employee data.");
-        } catch (HttpStatusCodeException e) { // Handles API limit reached (4xx/5xx errors)
+        } else if (failure instanceof HttpStatusCodeException e) { // Handles API limit reached (4xx/5xx errors)
             logger.error("[fetchAllEmployeesFromAPI] : API request failed with status {}: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
-        } catch (Exception e) { // Catches any other unexpected exceptions
-            logger.error("[fetchAllEmployeesFromAPI] : Unexpected error while fetching employee data: {}", e.getMessage());
+        } else { // Catches any other unexpected exceptions
+            logger.error("[fetchAllEmployeesFromAPI] : Unexpected error while fetching employee data: {}",
+                    failure.getMessage());
         }
+    }
 
-        return Collections.emptyList(); // Return an empty list to prevent null pointer issues
+    private static Throwable unwrap(Throwable failure) {
+        return (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
     }
 
     /**
-     * Log all employees.
+     * Wait for a future, rethrowing its failure as the original exception.
      */
-    private void logEmployeeRecords() {
-        logger.info("[logEmployeeRecords] : Employee records retrieved:");
-        employeeCache.forEach(emp -> logger.info(emp.toString()));
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (unwrap(e) instanceof RuntimeException failure) {
+                throw failure;
+            }
+            throw e;
+        }
     }
 
-    @Cacheable(value = "employees")
-    public List<Employee> getAllEmployees() {
-        if (employeeCache.isEmpty()) {
-            employeeCache.addAll(fetchAllEmployeesFromAPI());
+    /**
+     * Read an employee list response into a map keyed by id, keeping the last occurrence of a duplicate id. Each
+     * employee goes into the map as soon as it is parsed, so no intermediate list of the whole response is built.
+     */
+    private static Map<EmployeeId, Employee> readEmployees(InputStream body) throws IOException {
+        Map<EmployeeId, Employee> employeesById = new HashMap<>();
+        EmployeeListReader.read(body, employee -> employeesById.put(employee.employeeId(), employee));
+        return employeesById;
+    }
+
+    private void cacheEmployee(Employee employee) {
+        Employee previous = employeeCache.put(employee);
+        if (previous != null) {
+            salaryQuantiles.remove(previous.getEmployee_salary());
+        }
+        nameIndex.add(employee);
+        salaryIndex.add(employee);
+        titleStatistics.add(employee);
+        salaryQuantiles.add(employee.getEmployee_salary());
+    }
+
+    private void evictEmployee(String id) {
+        evictEmployee(EmployeeId.of(id));
+    }
+
+    private void evictEmployee(EmployeeId id) {
+        Employee previous = employeeCache.remove(id);
+        if (previous != null) {
+            salaryQuantiles.remove(previous.getEmployee_salary());
         }
-        return new ArrayList<>(employeeCache);
+        nameIndex.remove(id);
+        salaryIndex.remove(id);
+        titleStatistics.remove(id);
+    }
+
+    private void applyDelta(EmployeeDelta delta) {
+        delta.removed().forEach(this::evictEmployee);
+        delta.changed().forEach(this::cacheEmployee);
+        delta.added().forEach(this::cacheEmployee);
+    }
+
+    /**
+     * Apply changes to the cache and its indexes as one write, then publish a new snapshot. Publishing only takes a new
+     * version; the snapshot's employees are read from the cache when something first asks for them.
+     */
+    private void write(Runnable changes) {
+        synchronized (writeLock) {
+            writeSequence.incrementAndGet();
+            try {
+                snapshot.supersede(
+                        employeeCache,
+                        () -> {
+                            changes.run();
+                            salaryQuantiles.rebuildIfDrifted(employeeCache::snapshot);
+                        },
+                        next -> snapshot = next);
+            } finally {
+                writeSequence.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Run a query against the cache and its indexes so that it sees either all or none of any write. The query runs
+     * optimistically without locking and is only repeated under the write lock if a write overlapped it.
+     */
+    private <T> T read(Supplier<T> query) {
+        loadIfEmpty();
+        return readConsistent(query);
+    }
+
+    /**
+     * Asynchronous variant of {@link #read}, which loads the cache without blocking the calling thread.
+     */
+    private <T> CompletableFuture<T> readAsync(Supplier<T> query) {
+        return loadIfEmptyAsync().thenApply(loaded -> readConsistent(query));
+    }
+
+    private <T> T readConsistent(Supplier<T> query) {
+        long sequence = writeSequence.get();
+        if ((sequence & 1) == 0) {
+            T result = query.get();
+            if (writeSequence.get() == sequence) {
+                return result;
+            }
+        }
+        synchronized (writeLock) {
+            return query.get();
+        }
+    }
+
+    /**
+     * Populate the cache from the API on first use.
+     */
+    private void loadIfEmpty() {
+        if (snapshot.isEmpty()) {
+            populateIfEmpty(fetchAllEmployees(Priority.READ));
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #loadIfEmpty}, which completes once the cache has been populated.
+     */
+    private CompletableFuture<EmployeeSnapshot> loadIfEmptyAsync() {
+        if (!snapshot.isEmpty()) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        return fetchAllEmployeesAsync(Priority.READ).thenApply(employees -> {
+            populateIfEmpty(employees);
+            return snapshot;
+        });
+    }
+
+    private void populateIfEmpty(Map<EmployeeId, Employee> employees) {
+        synchronized (writeLock) {
+            // Callers that shared the fetch race to apply it; only the first one finds the cache empty
+            if (employeeCache.isEmpty() && !employees.isEmpty()) {
+                write(() -> employees.values().forEach(this::cacheEmployee));
+            }
+        }
+    }
+
+    /**
+     * The current snapshot of all employees, shared between callers.
+     */
+    public EmployeeSnapshot getEmployeeSnapshot() {
+        loadIfEmpty();
+        return snapshot;
+    }
+
+    /**
+     * The current snapshot, without loading the cache if it is empty.
+     */
+    public EmployeeSnapshot getCurrentSnapshot() {
+        return snapshot;
+    }
+
+    @Cacheable(value = "employees", unless = "#result.isEmpty()")
+    public List<Employee> getAllEmployees() {
+        return getEmployeeSnapshot().employees();
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        return loadIfEmptyAsync().thenApply(EmployeeSnapshot::employees);
     }
 
     public List<Employee> getEmployeesByName(String searchString) {
-        List<Employee> employees = getAllEmployees().stream()
-                .filter(emp -> emp.getEmployee_name().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        return requireNameMatches(read(() -> nameIndex.search(searchString)), searchString);
+    }
 
+    public CompletableFuture<List<Employee>> getEmployeesByNameAsync(String searchString) {
+        return readAsync(() -> nameIndex.search(searchString))
+                .thenApply(employees -> requireNameMatches(employees, searchString));
+    }
+
+    private static List<Employee> requireNameMatches(List<Employee> employees, String searchString) {
         if (employees.isEmpty()) {
             throw new ResourceNotFoundException("No employee found with name: " + searchString);
         }
@@ -104,60 +620,251 @@ public class EmployeeService {
 
     @Cacheable(value = "employee", key = "#id")
     public Employee getEmployeeById(String id) {
-        return getAllEmployees().stream()
-                .filter(emp -> emp.getId().equals(id))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("No employee found with id: " + id));
+        return requireEmployee(read(() -> employeeCache.get(EmployeeId.of(id))), id);
+    }
+
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        return readAsync(() -> employeeCache.get(EmployeeId.of(id))).thenApply(employee -> requireEmployee(employee, id));
+    }
+
+    private static Employee requireEmployee(Employee employee, String id) {
+        if (employee == null) {
+            throw new ResourceNotFoundException("No employee found with id: " + id);
+        }
+        return employee;
     }
 
     public Integer getHighestSalary() {
-        return getAllEmployees().stream()
-                .mapToInt(Employee::getEmployee_salary)
-                .max()
-                .orElse(0);
+        return read(salaryIndex::highestSalary);
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryAsync() {
+        return readAsync(salaryIndex::highestSalary);
+    }
+
+    /**
+     * Count, sum, minimum, maximum and average salary of all employees, aggregated over the current snapshot's columns.
+     */
+    public IntSummaryStatistics getSalaryStatistics() {
+        return getEmployeeSnapshot().columns().salaryStatistics();
+    }
+
+    /**
+     * Count, sum, minimum, maximum and average age of all employees, aggregated over the current snapshot's columns.
+     */
+    public IntSummaryStatistics getAgeStatistics() {
+        return getEmployeeSnapshot().columns().ageStatistics();
+    }
+
+    /**
+     * Salary and age aggregates of every title, ordered by title, read from aggregates that every write keeps current.
+     */
+    public List<TitleStatistics> getTitleStatistics() {
+        return read(titleStatistics::all);
+    }
+
+    public TitleStatistics getTitleStatistics(String title) {
+        TitleStatistics statistics = read(() -> titleStatistics.get(title));
+        if (statistics == null) {
+            throw new ResourceNotFoundException("No employee found with title: " + title);
+        }
+        return statistics;
+    }
+
+    /**
+     * Estimated salaries at each quantile, read from sketches that every write keeps current, with the bound on their
+     * rank error.
+     *
+     * @throws IllegalArgumentException if a quantile is outside 0 to 1
+     */
+    public SalaryQuantiles getSalaryQuantiles(List<Double> quantiles) {
+        return read(() -> salaryQuantiles.quantiles(quantiles));
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getEmployee_salary(), e1.getEmployee_salary()))
-                .limit(10)
-                .map(Employee::getEmployee_name)
-                .toList();
+        return getTopHighestEarningEmployeeNames(10);
+    }
+
+    public List<String> getTopHighestEarningEmployeeNames(int n) {
+        requireNonNegative(n);
+        return names(read(() -> salaryIndex.top(n)));
+    }
+
+    public CompletableFuture<List<String>> getTopHighestEarningEmployeeNamesAsync(int n) {
+        requireNonNegative(n);
+        return readAsync(() -> salaryIndex.top(n)).thenApply(EmployeeService::names);
+    }
+
+    private static void requireNonNegative(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployee_name).toList();
     }
 
     @CachePut(value = "employee", key = "#result.id")
     @CacheEvict(value = "employees", allEntries = true)
     public Employee createEmployee(Employee employee) throws HttpStatusCodeException{
         EmployeeRequest employeeRequest = new EmployeeRequest(employee);
-        ResponseEntity<EmployeeSingleResponse> response =
-                restTemplate.postForEntity(BASE_URL, employeeRequest, EmployeeSingleResponse.class);
+        // An invalid request would fail the whole batch, so it is sent alone and only its caller gets the error
+        if (createBatcher != null && employeeRequest.isValid()) {
+            return await(createBatcher.submit(employeeRequest));
+        }
+        ResponseEntity<EmployeeSingleResponse> response = upstreamBudget.call(
+                Priority.WRITE,
+                () -> restTemplate.postForEntity(BASE_URL, employeeRequest, EmployeeSingleResponse.class));
         Employee newEmployee = response.getBody().getData();
-        employeeCache.add(newEmployee);
+        write(() -> cacheEmployee(newEmployee));
         return newEmployee;
     }
 
-    @CacheEvict(
-            value = {"employee", "employees"},
-            allEntries = true)
+    /**
+     * Asynchronous variant of {@link #createEmployee}. The {@code employee} cache is not primed; the next lookup by id
+     * is answered from the index.
+     */
+    @CacheEvict(value = "employees", allEntries = true)
+    public CompletableFuture<Employee> createEmployeeAsync(Employee employee) {
+        EmployeeRequest employeeRequest = new EmployeeRequest(employee);
+        if (createBatcher != null && employeeRequest.isValid()) {
+            return createBatcher.submit(employeeRequest);
+        }
+        return upstreamBudget
+                .callAsync(Priority.WRITE, () -> asyncClient.post(BASE_URL, employeeRequest, EmployeeSingleResponse.class))
+                .thenApply(response -> {
+                    Employee newEmployee = response.getData();
+                    write(() -> cacheEmployee(newEmployee));
+                    return newEmployee;
+                });
+    }
+
+    @Caching(
+            evict = {
+                @CacheEvict(value = "employee", key = "#id"),
+                @CacheEvict(value = "employees", allEntries = true)
+            })
     public void deleteEmployeeById(String id) throws HttpStatusCodeException{
-        Employee employee = getEmployeeById(id);
-        if (employee != null) {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            Map<String, String> requestBody = Collections.singletonMap("name", employee.getEmployee_name());
-
-// Wrap body and headers in HttpEntity
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-// Perform DELETE request with body
-            restTemplate.exchange(BASE_URL, HttpMethod.DELETE, requestEntity, Void.class);
-            employeeCache.remove(employee);
-        } else {
+        if (!isUpstreamId(id)) {
             throw new ResourceNotFoundException("No employee found with id: " + id);
         }
+        if (deleteBatcher != null) {
+            if (!await(deleteBatcher.submit(id))) {
+                throw new ResourceNotFoundException("No employee found with id: " + id);
+            }
+            return;
+        }
+        try {
+            upstreamBudget.call(
+                    Priority.WRITE,
+                    () -> restTemplate.exchange(BASE_URL + "/" + id, HttpMethod.DELETE, HttpEntity.EMPTY, Void.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            write(() -> evictEmployee(id)); // Already deleted upstream, so any cached copy is stale
+            throw new ResourceNotFoundException("No employee found with id: " + id);
+        }
+        write(() -> evictEmployee(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteEmployeeById}.
+     */
+    @Caching(
+            evict = {
+                @CacheEvict(value = "employee", key = "#id"),
+                @CacheEvict(value = "employees", allEntries = true)
+            })
+    public CompletableFuture<Void> deleteEmployeeByIdAsync(String id) {
+        if (!isUpstreamId(id)) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException("No employee found with id: " + id));
+        }
+        if (deleteBatcher != null) {
+            return deleteBatcher.submit(id).thenAccept(deleted -> {
+                if (!deleted) {
+                    throw new ResourceNotFoundException("No employee found with id: " + id);
+                }
+            });
+        }
+        return upstreamBudget
+                .callAsync(Priority.WRITE, () -> asyncClient.delete(BASE_URL + "/" + id))
+                .handle((deleted, failure) -> {
+                    Throwable cause = (failure != null) ? unwrap(failure) : null;
+                    if (cause != null && !(cause instanceof HttpClientErrorException.NotFound)) {
+                        throw (cause instanceof RuntimeException e) ? e : new CompletionException(cause);
+                    }
+                    // A 404 means it was already deleted upstream, so any cached copy is stale
+                    write(() -> evictEmployee(id));
+                    if (cause != null) {
+                        throw new ResourceNotFoundException("No employee found with id: " + id);
+                    }
+                    return null;
+                });
     }
 
-    static class EmployeeResponse {
+    /**
+     * Send a batch of creates as one upstream request, and cache every created employee in one write.
+     */
+    private CompletableFuture<List<Employee>> sendCreates(List<EmployeeRequest> employeeRequests) {
+        return upstreamBudget
+                .callAsync(
+                        Priority.WRITE,
+                        () -> asyncClient.post(
+                                BATCH_URL,
+                                Collections.singletonMap("employees", employeeRequests),
+                                EmployeeBatchResponse.class))
+                .thenApply(response -> {
+                    List<Employee> created = requireBatchResults(response.getData(), employeeRequests.size());
+                    write(() -> created.forEach(this::cacheEmployee));
+                    logger.debug("[sendCreates] : Created {} employees in one request.", created.size());
+                    return created;
+                });
+    }
+
+    /**
+     * Send a batch of deletes as one upstream request, and evict every deleted employee in one write.
+     */
+    private CompletableFuture<List<Boolean>> sendDeletes(List<String> ids) {
+        return upstreamBudget
+                .callAsync(
+                        Priority.WRITE,
+                        () -> asyncClient.delete(
+                                BATCH_URL, Collections.singletonMap("ids", ids), DeleteBatchResponse.class))
+                .thenApply(response -> {
+                    List<Boolean> deleted = requireBatchResults(response.getData(), ids.size());
+                    write(() -> {
+                        for (int i = 0; i < ids.size(); i++) {
+                            if (Boolean.TRUE.equals(deleted.get(i))) {
+                                evictEmployee(ids.get(i));
+                            }
+                        }
+                    });
+                    logger.debug("[sendDeletes] : Deleted {} employees in one request.", ids.size());
+                    return deleted;
+                });
+    }
+
+    private static <T> List<T> requireBatchResults(List<T> results, int expected) {
+        if (results == null || results.size() != expected) {
+            throw new RestClientException("Upstream answered a batch of " + expected + " requests with "
+                    + ((results == null) ? "no" : results.size()) + " results");
+        }
+        return results;
+    }
+
+    /**
+     * Upstream ids are UUIDs. The upstream server fails requests for any other id, and a batch with one fails as a
+     * whole, so such ids are known not to exist without asking.
+     */
+    private static boolean isUpstreamId(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    static class EmployeeBatchResponse {
         private List<Employee> data;
 
         public List<Employee> getData() {
@@ -169,6 +876,30 @@ public class EmployeeService {
         }
     }
 
+    static class DeleteBatchResponse {
+        private List<Boolean> data;
+
+        public List<Boolean> getData() {
+            return data;
+        }
+
+        public void setData(List<Boolean> deleted) {
+            this.data = deleted;
+        }
+    }
+
+    static class EmployeeChangesResponse {
+        private EmployeeChanges data;
+
+        public EmployeeChanges getData() {
+            return data;
+        }
+
+        public void setData(EmployeeChanges changes) {
+            this.data = changes;
+        }
+    }
+
     static class EmployeeSingleResponse {
         private Employee data;
 
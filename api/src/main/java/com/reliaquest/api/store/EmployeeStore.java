@@ -0,0 +1,45 @@
+package com.reliaquest.api.store;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Primary storage of the cached employees, keyed by id.
+ *
+ * Writes are serialized by the caller, while reads may run concurrently with a write and see either side of it.
+ * {@link #snapshot()} is immutable, so it stays valid across later writes.
+ */
+public interface EmployeeStore {
+
+    /**
+     * Store an employee, replacing any with the same id.
+     *
+     * @return the replaced employee, or null
+     */
+    Employee put(Employee employee);
+
+    /**
+     * @return the removed employee, or null if there was none
+     */
+    Employee remove(EmployeeId id);
+
+    Employee get(EmployeeId id);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Ids of the stored employees, as a live view.
+     */
+    Set<EmployeeId> ids();
+
+    /**
+     * Every stored employee as of now, unaffected by later writes.
+     */
+    List<Employee> snapshot();
+}
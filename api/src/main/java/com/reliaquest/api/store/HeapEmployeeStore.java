@@ -0,0 +1,46 @@
+package com.reliaquest.api.store;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employees held as objects in a concurrent map.
+ */
+public class HeapEmployeeStore implements EmployeeStore {
+
+    private final Map<EmployeeId, Employee> employees = new ConcurrentHashMap<>();
+
+    @Override
+    public Employee put(Employee employee) {
+        return employees.put(employee.employeeId(), employee);
+    }
+
+    @Override
+    public Employee remove(EmployeeId id) {
+        return employees.remove(id);
+    }
+
+    @Override
+    public Employee get(EmployeeId id) {
+        return employees.get(id);
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    @Override
+    public Set<EmployeeId> ids() {
+        return employees.keySet();
+    }
+
+    @Override
+    public List<Employee> snapshot() {
+        return List.copyOf(employees.values());
+    }
+}
@@ -0,0 +1,345 @@
+package com.reliaquest.api.store;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employees serialized into direct {@link ByteBuffer} segments outside the Java heap, found through an on-heap index of
+ * their offsets. The heap only holds the index, one entry per employee, so the garbage collector neither traces nor
+ * copies the records, however many there are. An {@link Employee} is decoded from its record on each read.
+ *
+ * Records are appended and never overwritten: a replaced or removed record is left behind as garbage, and a snapshot
+ * is an array of offsets that stays valid while it keeps its segments reachable. Once garbage outweighs live records
+ * and fills at least a segment, the live records are copied into fresh segments, and the old ones are released when
+ * the garbage collector finds their buffers unreachable.
+ *
+ * Record layout: total length, id (a kind byte, then the UUID's two halves or the id's UTF-8 bytes), salary, age,
+ * title code, then the name and email as length-prefixed UTF-8. Titles are coded through a dictionary of this store;
+ * one beyond {@link #MAX_TITLES} is written inline instead.
+ */
+public class OffHeapEmployeeStore implements EmployeeStore {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 << 20;
+
+    static final int MAX_TITLES = 4096;
+
+    private static final byte UUID_ID = 0;
+
+    private static final byte STRING_ID = 1;
+
+    private static final int NO_TITLE = -1;
+
+    private static final int INLINE_TITLE = -2;
+
+    private static final int NULL_LENGTH = -1;
+
+    private final int segmentSize;
+
+    private volatile State state;
+
+    /** Title of each code; replaced, never modified, when a title is added. */
+    private volatile String[] titles = new String[0];
+
+    private final Map<String, Integer> titleCodes = new HashMap<>();
+
+    /** Write position in the last segment. Only touched by the writer, like the counters below. */
+    private int position;
+
+    private long liveBytes;
+
+    private long garbageBytes;
+
+    public OffHeapEmployeeStore() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize bytes allocated at a time; a record larger than this gets a segment of its own
+     */
+    public OffHeapEmployeeStore(int segmentSize) {
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("segmentSize must be at least 64 bytes: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        this.state = new State();
+    }
+
+    /**
+     * Offsets of the records in one generation of segments. A compaction starts a new generation.
+     */
+    private static final class State {
+
+        private final Map<EmployeeId, Long> offsets = new ConcurrentHashMap<>();
+
+        /** Replaced, never modified, when a segment is added, and before any offset into it is published. */
+        private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    }
+
+    @Override
+    public Employee put(Employee employee) {
+        byte[] record = encode(employee);
+        State current = state;
+        long offset = append(current, record);
+        Long previous = current.offsets.put(employee.employeeId(), offset);
+        liveBytes += record.length;
+        Employee replaced = null;
+        if (previous != null) {
+            replaced = decode(current.segments, previous);
+            discard(current.segments, previous);
+        }
+        compactIfWasteful();
+        return replaced;
+    }
+
+    @Override
+    public Employee remove(EmployeeId id) {
+        State current = state;
+        Long previous = current.offsets.remove(id);
+        if (previous == null) {
+            return null;
+        }
+        Employee removed = decode(current.segments, previous);
+        discard(current.segments, previous);
+        compactIfWasteful();
+        return removed;
+    }
+
+    @Override
+    public Employee get(EmployeeId id) {
+        State current = state;
+        Long offset = current.offsets.get(id);
+        // Segments are read after the offset, so they include the one it points into
+        return (offset != null) ? decode(current.segments, offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return state.offsets.size();
+    }
+
+    @Override
+    public Set<EmployeeId> ids() {
+        return state.offsets.keySet();
+    }
+
+    @Override
+    public List<Employee> snapshot() {
+        State current = state;
+        long[] offsets = current.offsets.values().stream().mapToLong(Long::longValue).toArray();
+        return new SnapshotList(current.segments, offsets);
+    }
+
+    /**
+     * Bytes of direct memory held by the current segments, including garbage not yet compacted away.
+     */
+    public long allocatedBytes() {
+        long allocated = 0;
+        for (ByteBuffer segment : state.segments) {
+            allocated += segment.capacity();
+        }
+        return allocated;
+    }
+
+    public long liveBytes() {
+        return liveBytes;
+    }
+
+    public long garbageBytes() {
+        return garbageBytes;
+    }
+
+    private long append(State target, byte[] record) {
+        ByteBuffer[] segments = target.segments;
+        if (segments.length == 0 || position + record.length > segments[segments.length - 1].capacity()) {
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segments[segments.length - 1] = ByteBuffer.allocateDirect(Math.max(segmentSize, record.length));
+            target.segments = segments;
+            position = 0;
+        }
+        int segment = segments.length - 1;
+        segments[segment].put(position, record);
+        long offset = ((long) segment << 32) | position;
+        position += record.length;
+        return offset;
+    }
+
+    private void discard(ByteBuffer[] segments, long offset) {
+        int length = segment(segments, offset).getInt(position(offset));
+        liveBytes -= length;
+        garbageBytes += length;
+    }
+
+    private void compactIfWasteful() {
+        if (garbageBytes > liveBytes && garbageBytes >= segmentSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Copy every live record into a new generation of segments, and publish it in one step.
+     */
+    void compact() {
+        State current = state;
+        State compacted = new State();
+        position = 0;
+        for (Map.Entry<EmployeeId, Long> entry : current.offsets.entrySet()) {
+            ByteBuffer segment = segment(current.segments, entry.getValue());
+            int at = position(entry.getValue());
+            byte[] record = new byte[segment.getInt(at)];
+            segment.get(at, record);
+            compacted.offsets.put(entry.getKey(), append(compacted, record));
+        }
+        state = compacted;
+        garbageBytes = 0;
+    }
+
+    private byte[] encode(Employee employee) {
+        EmployeeId id = employee.employeeId();
+        byte[] stringId = id.isUuid() ? null : utf8(id.toString());
+        byte[] name = utf8(employee.getEmployee_name());
+        byte[] email = utf8(employee.getEmployee_email());
+        String title = employee.getEmployee_title();
+        int titleCode = titleCode(title);
+        byte[] inlineTitle = (titleCode == INLINE_TITLE) ? utf8(title) : null;
+
+        int length = Integer.BYTES + 1 + ((stringId == null) ? 2 * Long.BYTES : sized(stringId)) + 3 * Integer.BYTES
+                + ((inlineTitle != null) ? sized(inlineTitle) : 0) + sized(name) + sized(email);
+        ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(length);
+        if (stringId == null) {
+            record.put(UUID_ID).putLong(id.mostSignificantBits()).putLong(id.leastSignificantBits());
+        } else {
+            putSized(record.put(STRING_ID), stringId);
+        }
+        record.putInt(employee.getEmployee_salary()).putInt(employee.getEmployee_age()).putInt(titleCode);
+        if (inlineTitle != null) {
+            putSized(record, inlineTitle);
+        }
+        putSized(record, name);
+        putSized(record, email);
+        return record.array();
+    }
+
+    private Employee decode(ByteBuffer[] segments, long offset) {
+        ByteBuffer segment = segment(segments, offset);
+        int at = position(offset) + Integer.BYTES;
+        EmployeeId id;
+        if (segment.get(at) == UUID_ID) {
+            id = EmployeeId.of(segment.getLong(at + 1), segment.getLong(at + 1 + Long.BYTES));
+            at += 1 + 2 * Long.BYTES;
+        } else {
+            id = EmployeeId.of(getSized(segment, at + 1));
+            at = skipSized(segment, at + 1);
+        }
+        int salary = segment.getInt(at);
+        int age = segment.getInt(at + Integer.BYTES);
+        int titleCode = segment.getInt(at + 2 * Integer.BYTES);
+        at += 3 * Integer.BYTES;
+        String title;
+        if (titleCode == INLINE_TITLE) {
+            title = getSized(segment, at);
+            at = skipSized(segment, at);
+        } else {
+            title = (titleCode == NO_TITLE) ? null : titles[titleCode];
+        }
+        String name = getSized(segment, at);
+        at = skipSized(segment, at);
+        String email = getSized(segment, at);
+        return new Employee(id, name, salary, age, title, email);
+    }
+
+    private int titleCode(String title) {
+        if (title == null) {
+            return NO_TITLE;
+        }
+        Integer code = titleCodes.get(title);
+        if (code != null) {
+            return code;
+        }
+        if (titleCodes.size() >= MAX_TITLES) {
+            return INLINE_TITLE;
+        }
+        String[] extended = Arrays.copyOf(titles, titles.length + 1);
+        extended[titles.length] = title;
+        // Published before any record that uses the code
+        titles = extended;
+        titleCodes.put(title, titles.length - 1);
+        return titles.length - 1;
+    }
+
+    private static ByteBuffer segment(ByteBuffer[] segments, long offset) {
+        return segments[(int) (offset >>> 32)];
+    }
+
+    private static int position(long offset) {
+        return (int) offset;
+    }
+
+    private static byte[] utf8(String value) {
+        return (value != null) ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int sized(byte[] value) {
+        return Integer.BYTES + ((value != null) ? value.length : 0);
+    }
+
+    /**
+     * Position just past the length-prefixed value at {@code at}.
+     */
+    private static int skipSized(ByteBuffer segment, int at) {
+        return at + Integer.BYTES + Math.max(0, segment.getInt(at));
+    }
+
+    private static void putSized(ByteBuffer record, byte[] value) {
+        if (value == null) {
+            record.putInt(NULL_LENGTH);
+        } else {
+            record.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getSized(ByteBuffer segment, int at) {
+        int length = segment.getInt(at);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        segment.get(at + Integer.BYTES, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Employees at fixed offsets, decoded on each access.
+     */
+    private final class SnapshotList extends AbstractList<Employee> implements RandomAccess {
+
+        private final ByteBuffer[] segments;
+
+        private final long[] offsets;
+
+        private SnapshotList(ByteBuffer[] segments, long[] offsets) {
+            this.segments = segments;
+            this.offsets = offsets;
+        }
+
+        @Override
+        public Employee get(int index) {
+            return decode(segments, offsets[index]);
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.index.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Serves the GET endpoints whose bodies only depend on the employee snapshot from JSON that is serialized once per
+ * snapshot version. Each response carries a strong ETag of its bytes, and a matching {@code If-None-Match} is answered
+ * with 304 Not Modified without touching the body.
+ */
+public class SnapshotResponseInterceptor implements HandlerInterceptor {
+
+    private final EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The body of each path for a snapshot. The employee list is taken from the snapshot itself rather than through
+     * the service's cached {@code getAllEmployees()}, whose cache is only evicted after a write has already published
+     * its new version, so that a body is never stored under a version it does not belong to.
+     */
+    private final Map<String, Function<EmployeeSnapshot, Object>> bodies;
+
+    private final Map<String, AtomicReference<SerializedResponse>> responses = Map.of(
+            "/", new AtomicReference<>(),
+            "/highestSalary", new AtomicReference<>(),
+            "/topTenHighestEarningEmployeeNames", new AtomicReference<>());
+
+    public SnapshotResponseInterceptor(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.bodies = Map.of(
+                "/", EmployeeSnapshot::employees,
+                "/highestSalary", snapshot -> employeeService.getHighestSalary(),
+                "/topTenHighestEarningEmployeeNames",
+                        snapshot -> employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    public static String[] pathPatterns() {
+        return new String[] {"/", "/highestSalary", "/topTenHighestEarningEmployeeNames"};
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String path = request.getServletPath().isEmpty() ? "/" : request.getServletPath();
+        if (!"GET".equals(request.getMethod()) || !bodies.containsKey(path)) {
+            return true;
+        }
+        if (employeeService.getCurrentSnapshot().isEmpty()) {
+            // Let the handler load the cache, which the asynchronous controller does without holding this thread
+            return true;
+        }
+
+        SerializedResponse serialized = serializedResponse(path);
+        response.setHeader(HttpHeaders.ETAG, serialized.etag());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), serialized.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return false;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(serialized.body().length);
+        response.getOutputStream().write(serialized.body());
+        return false;
+    }
+
+    /**
+     * The cached response for the current snapshot version, serializing it first if needed. A body is only cached if
+     * no write was published while it was being computed.
+     */
+    private SerializedResponse serializedResponse(String path) throws IOException {
+        AtomicReference<SerializedResponse> cached = responses.get(path);
+        EmployeeSnapshot snapshot = employeeService.getCurrentSnapshot();
+        long version = snapshot.version();
+        SerializedResponse current = cached.get();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(bodies.get(path).apply(snapshot));
+        SerializedResponse serialized = new SerializedResponse(version, body, etag(body));
+        if (employeeService.getCurrentSnapshot().version() == version) {
+            cached.set(serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * Weak comparison of an If-None-Match header against our ETag, as RFC 9110 requires for this header.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record SerializedResponse(long version, byte[] body, String etag) {}
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.reliaquest.api.entity.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListReaderTest {
+
+    @Test
+    void testRead_StreamsEachEmployee() throws Exception {
+        String json = "{\"status\":\"Successfully processed request.\",\"data\":["
+                + "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":30,"
+                + "\"employee_title\":\"Software Engineer\",\"employee_email\":\"johndoe@company.com\"},"
+                + "{\"id\":\"2\",\"employee_name\":\"Jane Doe\",\"employee_salary\":60000,\"employee_age\":28,"
+                + "\"employee_title\":\"Product Manager\",\"employee_email\":null,\"employee_nickname\":\"JD\"}"
+                + "],\"meta\":{\"data\":[1,2,3]}}";
+        List<Employee> employees = new ArrayList<>();
+
+        int count = EmployeeListReader.read(body(json), employees::add);
+
+        assertEquals(2, count);
+        assertEquals("1", employees.get(0).getId());
+        assertEquals("johndoe@company.com", employees.get(0).getEmployee_email());
+        assertEquals("Jane Doe", employees.get(1).getEmployee_name());
+        assertEquals(60000, employees.get(1).getEmployee_salary());
+    }
+
+    @Test
+    void testRead_MissingOrNullData() throws Exception {
+        assertEquals(0, EmployeeListReader.read(body("{\"status\":\"ok\"}"), employee -> fail()));
+        assertEquals(0, EmployeeListReader.read(body("{\"data\":null}"), employee -> fail()));
+        assertEquals(0, EmployeeListReader.read(body("{\"data\":[]}"), employee -> fail()));
+    }
+
+    @Test
+    void testRead_RejectsMalformedResponses() {
+        assertThrows(JsonProcessingException.class, () -> EmployeeListReader.read(body("[]"), employee -> {}));
+        assertThrows(JsonProcessingException.class, () -> EmployeeListReader.read(body("{\"data\":[1]}"), employee -> {}));
+        assertThrows(IOException.class, () -> EmployeeListReader.read(body("{\"data\":[{\"id\":\"1\"}"), employee -> {}));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
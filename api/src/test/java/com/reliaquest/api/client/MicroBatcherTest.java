@@ -0,0 +1,91 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final List<List<Integer>> sent = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private CompletableFuture<List<Integer>> timesTen(List<Integer> inputs) {
+        sent.add(inputs);
+        return CompletableFuture.completedFuture(inputs.stream().map(input -> input * 10).toList());
+    }
+
+    @Test
+    void testSubmit_SendsFullBatchWithoutWaiting() throws Exception {
+        MicroBatcher<Integer, Integer> batcher =
+                new MicroBatcher<>(Duration.ofMinutes(1), 3, scheduler, this::timesTen);
+
+        CompletableFuture<Integer> first = batcher.submit(1);
+        CompletableFuture<Integer> second = batcher.submit(2);
+        assertFalse(first.isDone());
+        CompletableFuture<Integer> third = batcher.submit(3);
+
+        assertEquals(10, first.get(5, TimeUnit.SECONDS));
+        assertEquals(20, second.get(5, TimeUnit.SECONDS));
+        assertEquals(30, third.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2, 3)), sent);
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(3, batcher.getCallCount());
+    }
+
+    @Test
+    void testSubmit_SendsPartialBatchWhenWindowEnds() throws Exception {
+        MicroBatcher<Integer, Integer> batcher =
+                new MicroBatcher<>(Duration.ofMillis(20), 100, scheduler, this::timesTen);
+
+        CompletableFuture<Integer> first = batcher.submit(1);
+        CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertEquals(10, first.get(5, TimeUnit.SECONDS));
+        assertEquals(20, second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2)), sent);
+
+        // A call after the window ended starts a new batch
+        assertEquals(30, batcher.submit(3).get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2), List.of(3)), sent);
+    }
+
+    @Test
+    void testSubmit_BatchFailureFailsEveryCaller() {
+        IllegalStateException failure = new IllegalStateException("Upstream unavailable");
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>(
+                Duration.ofMinutes(1), 2, scheduler, inputs -> CompletableFuture.failedFuture(failure));
+
+        CompletableFuture<Integer> first = batcher.submit(1);
+        CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+
+    @Test
+    void testSubmit_MissingResultsFailEveryCaller() {
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>(
+                Duration.ofMinutes(1), 2, scheduler, inputs -> CompletableFuture.completedFuture(List.of(10)));
+
+        CompletableFuture<Integer> first = batcher.submit(1);
+        CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+}
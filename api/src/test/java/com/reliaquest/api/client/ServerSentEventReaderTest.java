@@ -0,0 +1,62 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ServerSentEventReaderTest {
+
+    @Test
+    void testRead_DispatchesEachEvent() throws Exception {
+        String stream = "id: e:1\nevent: change\ndata: {\"sequence\":1}\n\n"
+                + ": heartbeat\n\n"
+                + "event:resync\ndata:{\"latest\":1}\n\n";
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+        List<String> comments = new ArrayList<>();
+
+        ServerSentEventReader.read(reader(stream), null, new ServerSentEventReader.Listener() {
+            @Override
+            public void onEvent(ServerSentEventReader.Event event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onComment(String comment) {
+                comments.add(comment);
+            }
+        });
+
+        assertEquals(
+                List.of(
+                        new ServerSentEventReader.Event("e:1", "change", "{\"sequence\":1}"),
+                        new ServerSentEventReader.Event("e:1", "resync", "{\"latest\":1}")),
+                events);
+        assertEquals(List.of("heartbeat"), comments);
+    }
+
+    @Test
+    void testRead_JoinsDataLinesAndDefaultsName() throws Exception {
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+
+        ServerSentEventReader.read(reader("data: first\ndata:  second\nretry: 5\n\n"), "e:7", events::add);
+
+        assertEquals(List.of(new ServerSentEventReader.Event("e:7", "message", "first\n second")), events);
+    }
+
+    @Test
+    void testRead_SkipsEventsWithoutDataAndIncompleteEvents() throws Exception {
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+
+        ServerSentEventReader.read(reader("id: e:2\nevent: change\n\ndata: unterminated\n"), null, events::add);
+
+        assertTrue(events.isEmpty());
+    }
+
+    private static BufferedReader reader(String stream) {
+        return new BufferedReader(new StringReader(stream));
+    }
+}
@@ -0,0 +1,206 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.UpstreamBudget.Priority;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UpstreamBudgetTest {
+
+    private MutableClock clock;
+
+    private UpstreamBudget budget;
+
+    /** Requests the simulated server accepts per burst. */
+    private int serverLimit;
+
+    /** How long the simulated server rejects requests after the last accepted one. */
+    private Duration serverBackoff;
+
+    private int serverCount;
+
+    private Instant serverLastAccepted;
+
+    private final AtomicInteger sent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        budget = new UpstreamBudget(clock, Duration.ofSeconds(30), Duration.ofMinutes(2), 1);
+        serverLimit = 6;
+        serverBackoff = Duration.ofSeconds(60);
+        serverCount = 0;
+        serverLastAccepted = clock.instant();
+    }
+
+    @Test
+    void testLearnsLimit_AndStopsSendingWhenSpent() {
+        for (int i = 0; i < 6; i++) {
+            assertEquals("ok", budget.call(Priority.WRITE, this::serve));
+        }
+        assertEquals(-1, budget.getRemainingEstimate());
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+        assertEquals(6, budget.getLimitEstimate());
+        assertEquals(0, budget.getRemainingEstimate());
+
+        // Rejected locally while the estimated backoff runs
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+        assertEquals(7, sent.get());
+    }
+
+    @Test
+    void testLearnsBackoff_ByProbing() {
+        exhaust();
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+        assertEquals(Duration.ofSeconds(45), budget.getBackoffEstimate());
+
+        clock.advance(Duration.ofSeconds(15));
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+        assertEquals(Duration.ofMillis(67500), budget.getBackoffEstimate());
+
+        clock.advance(Duration.ofMillis(22500));
+        assertEquals("ok", budget.call(Priority.WRITE, this::serve));
+        assertEquals(6, budget.getRemainingEstimate());
+    }
+
+    @Test
+    void testPredictsBlock_OnceLimitIsKnown() {
+        exhaust();
+        clock.advance(Duration.ofSeconds(120));
+        budget.call(Priority.WRITE, this::serve);
+
+        for (int i = 0; i < 6; i++) {
+            budget.call(Priority.WRITE, this::serve);
+        }
+        int sentBefore = sent.get();
+
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+        assertEquals(sentBefore, sent.get());
+    }
+
+    @Test
+    void testBackgroundCalls_LeaveReserveForWrites() {
+        exhaust();
+        clock.advance(Duration.ofSeconds(120));
+        budget.call(Priority.WRITE, this::serve);
+
+        for (int i = 0; i < 5; i++) {
+            budget.call(Priority.BACKGROUND, this::serve);
+        }
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.BACKGROUND, this::serve));
+        assertEquals("ok", budget.call(Priority.WRITE, this::serve));
+    }
+
+    @Test
+    void testBackgroundCalls_ReserveIsHeldForOneBackoffWindow() {
+        exhaust();
+        clock.advance(Duration.ofSeconds(120));
+        budget.call(Priority.WRITE, this::serve);
+        for (int i = 0; i < 5; i++) {
+            budget.call(Priority.BACKGROUND, this::serve);
+        }
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.BACKGROUND, this::serve));
+
+        clock.advance(budget.getBackoffEstimate());
+
+        assertEquals("ok", budget.call(Priority.BACKGROUND, this::serve));
+    }
+
+    @Test
+    void testCallAsync_LearnsFromCompletedCalls() {
+        for (int i = 0; i < 6; i++) {
+            assertEquals("ok", budget.callAsync(Priority.WRITE, this::serveAsync).join());
+        }
+
+        CompletionException rejected = assertThrows(
+                CompletionException.class, () -> budget.callAsync(Priority.WRITE, this::serveAsync).join());
+        assertInstanceOf(TooManyRequestsException.class, rejected.getCause());
+        assertEquals(6, budget.getLimitEstimate());
+
+        int sentBefore = sent.get();
+        CompletableFuture<String> deferred = budget.callAsync(Priority.WRITE, this::serveAsync);
+        assertTrue(deferred.isCompletedExceptionally());
+        assertEquals(sentBefore, sent.get());
+    }
+
+    /**
+     * Spend the first burst and observe the first 429.
+     */
+    private void exhaust() {
+        for (int i = 0; i < 6; i++) {
+            budget.call(Priority.WRITE, this::serve);
+        }
+        assertThrows(TooManyRequestsException.class, () -> budget.call(Priority.WRITE, this::serve));
+    }
+
+    /**
+     * Same rules as the mock server's RandomRequestLimitInterceptor.
+     */
+    private String serve() {
+        sent.incrementAndGet();
+        Instant now = clock.instant();
+        if (serverCount >= serverLimit) {
+            if (now.isBefore(serverLastAccepted.plus(serverBackoff))) {
+                throw HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), new byte[0], null);
+            }
+            serverCount = 0;
+            serverLastAccepted = now;
+            return "ok";
+        }
+        serverCount++;
+        serverLastAccepted = now;
+        return "ok";
+    }
+
+    private CompletableFuture<String> serveAsync() {
+        try {
+            return CompletableFuture.completedFuture(serve());
+        } catch (HttpClientErrorException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+class CacheConfigTest {
+
+    private final CacheManager cacheManager = new CacheConfig()
+            .cacheManager(new EmployeeCacheProperties(
+                    new EmployeeCacheProperties.Spec(10, Duration.ofMinutes(1)),
+                    Map.of("employee", new EmployeeCacheProperties.Spec(2, Duration.ofMinutes(1)))));
+
+    @Test
+    void testConfiguredCache_IsBoundedAndRecordsStats() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("employee");
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "employee-" + i);
+            cache.get(i);
+        }
+
+        Cache<Object, Object> nativeCache = cache.getNativeCache();
+        nativeCache.cleanUp();
+        assertTrue(nativeCache.estimatedSize() <= 2);
+        assertEquals(100, nativeCache.stats().hitCount());
+        assertTrue(nativeCache.stats().evictionCount() >= 98);
+    }
+
+    @Test
+    void testUnconfiguredCache_UsesDefaults() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("other");
+
+        assertEquals(10, cache.getNativeCache().policy().eviction().orElseThrow().getMaximum());
+    }
+}
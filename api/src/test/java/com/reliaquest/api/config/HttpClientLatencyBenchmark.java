@@ -0,0 +1,127 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.DeadlineClientHttpRequestFactory;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares request latency of the previous bare {@code new RestTemplate()} with the pooled client from
+ * {@link RestTemplateConfig}, against a local server returning a list-sized JSON body. Run with
+ * {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class HttpClientLatencyBenchmark {
+
+    private static final int WARMUP_REQUESTS = 500;
+
+    private static final int REQUESTS_PER_THREAD = 2000;
+
+    private static final int THREADS = 8;
+
+    @Test
+    void compareLatency() throws Exception {
+        byte[] body = employeesJson(500);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+        server.setExecutor(Executors.newFixedThreadPool(THREADS));
+        server.createContext("/api/v1/employee", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        String url = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+
+        DeadlineClientHttpRequestFactory pooledFactory = new RestTemplateConfig()
+                .upstreamRequestFactory(new HttpClientProperties(null, null, null, null, null, 0, THREADS, Map.of()));
+        try {
+            RestTemplate bare = new RestTemplate(new SimpleClientHttpRequestFactory());
+            RestTemplate pooled = new RestTemplate(pooledFactory);
+
+            run("bare", bare, url, 1);
+            run("pooled", pooled, url, 1);
+            run("bare", bare, url, THREADS);
+            run("pooled", pooled, url, THREADS);
+        } finally {
+            pooledFactory.destroy();
+            server.stop(0);
+        }
+    }
+
+    private static void run(String name, RestTemplate restTemplate, String url, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < WARMUP_REQUESTS; i++) {
+                assertNotNull(restTemplate.getForObject(url, String.class));
+            }
+
+            List<Future<long[]>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[REQUESTS_PER_THREAD];
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        long requestStart = System.nanoTime();
+                        restTemplate.getForObject(url, String.class);
+                        latencies[i] = System.nanoTime() - requestStart;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[threads * REQUESTS_PER_THREAD];
+            for (int t = 0; t < threads; t++) {
+                System.arraycopy(futures.get(t).get(), 0, latencies, t * REQUESTS_PER_THREAD, REQUESTS_PER_THREAD);
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            Arrays.sort(latencies);
+            System.out.printf(
+                    "%-6s threads=%d requests=%d throughput=%.0f req/s p50=%dus p99=%dus max=%dus%n",
+                    name,
+                    threads,
+                    latencies.length,
+                    latencies.length / (elapsed.toNanos() / 1e9),
+                    latencies[latencies.length / 2] / 1000,
+                    latencies[latencies.length * 99 / 100] / 1000,
+                    latencies[latencies.length - 1] / 1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] employeesJson(int count) {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"00000000-0000-4000-8000-")
+                    .append(String.format("%012d", i))
+                    .append("\",\"employee_name\":\"Employee ")
+                    .append(i)
+                    .append("\",\"employee_salary\":")
+                    .append(30000 + i)
+                    .append(",\"employee_age\":30,\"employee_title\":\"Engineer\",\"employee_email\":\"e")
+                    .append(i)
+                    .append("@company.com\"}");
+        }
+        return json.append("],\"status\":\"Successfully processed request.\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.DeadlineClientHttpRequestFactory;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class RestTemplateConfigTest {
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    private DeadlineClientHttpRequestFactory requestFactory;
+
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            boolean gzip = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding"))
+                    .contains("gzip");
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = gzip ? new GZIPOutputStream(exchange.getResponseBody()) : exchange.getResponseBody()) {
+                body.write("compressed".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(2000);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < 20; i++) {
+                    body.write('x');
+                    body.flush();
+                    sleep(100);
+                }
+            } catch (IOException e) {
+                // client gave up
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        requestFactory = new RestTemplateConfig()
+                .upstreamRequestFactory(new HttpClientProperties(
+                        Duration.ofSeconds(1),
+                        Duration.ofMillis(500),
+                        Duration.ofMillis(700),
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(30),
+                        10,
+                        5,
+                        Map.of(baseUrl, 2)));
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        requestFactory.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void testNegotiatesGzip() {
+        assertEquals("compressed", restTemplate.getForObject(baseUrl + "/gzip", String.class));
+    }
+
+    @Test
+    void testReadTimeout() {
+        long start = System.nanoTime();
+
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+    }
+
+    @Test
+    void testTotalTimeout_AbortsTricklingResponse() {
+        long start = System.nanoTime();
+
+        // Every byte arrives within the read timeout, but the whole response would take two seconds
+        assertThrows(Exception.class, () -> restTemplate.getForObject(baseUrl + "/trickle", String.class));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+    }
+
+    @Test
+    void testTotalTimeout_CancelledOnceExchangeEnds() {
+        restTemplate.getForObject(baseUrl + "/gzip", String.class);
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+
+        // Neither deadline is left waiting for its 30 seconds, holding on to its request
+        assertEquals(0, requestFactory.pendingDeadlines());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
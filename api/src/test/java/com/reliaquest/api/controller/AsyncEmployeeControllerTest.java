@@ -0,0 +1,121 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.exceptions.GlobalExceptionHandler;
+import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Drives the controller through MockMvc, so that each response is written only once the service's future completes,
+ * and failures reach {@link GlobalExceptionHandler} the way they do in the running application.
+ */
+class AsyncEmployeeControllerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private MockMvc mockMvc;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AsyncEmployeeController(employeeService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        employee = new Employee(
+                UUID.randomUUID().toString(), "Raj Kamal", 50000, 24, "Software Engineer", "raj.kamal@reliaquest.com");
+    }
+
+    @Test
+    void testGetAllEmployees() throws Exception {
+        when(employeeService.getAllEmployeesAsync()).thenReturn(CompletableFuture.completedFuture(List.of(employee)));
+
+        mockMvc.perform(asyncDispatch(started(get("/"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("Raj Kamal"));
+        verify(employeeService, times(1)).getAllEmployeesAsync();
+    }
+
+    @Test
+    void testGetEmployeeById_success() throws Exception {
+        String id = employee.getId();
+        when(employeeService.getEmployeeByIdAsync(id)).thenReturn(CompletableFuture.completedFuture(employee));
+
+        mockMvc.perform(asyncDispatch(started(get("/{id}", id))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+    }
+
+    @Test
+    void testGetEmployeeById_NotFound() throws Exception {
+        String id = UUID.randomUUID().toString();
+        when(employeeService.getEmployeeByIdAsync(id))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new ResourceNotFoundException("No employee found with id: " + id)));
+
+        mockMvc.perform(asyncDispatch(started(get("/{id}", id))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("No employee found with id: " + id));
+    }
+
+    @Test
+    void testDeleteEmployeeById_NotFound() throws Exception {
+        String id = UUID.randomUUID().toString();
+        when(employeeService.deleteEmployeeByIdAsync(id))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new ResourceNotFoundException("No employee found with id: " + id)));
+
+        // Passes through translate, which must unwrap the CompletionException rather than answer 400
+        mockMvc.perform(asyncDispatch(started(delete("/{id}", id))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Resource Not Found"));
+    }
+
+    @Test
+    void testGetAllEmployees_TooManyRequests() throws Exception {
+        when(employeeService.getAllEmployeesAsync())
+                .thenReturn(CompletableFuture.failedFuture(
+                        new TooManyRequestsException("Employee API rate limit reached.", Duration.ofMillis(2500))));
+
+        mockMvc.perform(asyncDispatch(started(get("/"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.message").value("Employee API rate limit reached."));
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_Failure() throws Exception {
+        when(employeeService.getHighestSalaryAsync())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("index unavailable")));
+
+        mockMvc.perform(asyncDispatch(started(get("/highestSalary")))).andExpect(status().isInternalServerError());
+    }
+
+    /**
+     * Perform a request and check that the controller released it to wait on the service, rather than answering it.
+     */
+    private MvcResult started(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+}
@@ -103,6 +103,17 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getTopTenHighestEarningEmployeeNames();
     }
 
+    @Test
+    void testGetTopHighestEarningEmployeeNames_success() {
+        when(employeeService.getTopHighestEarningEmployeeNames(1)).thenReturn(List.of("John Doe"));
+
+        ResponseEntity<List<String>> response = employeeController.getTopHighestEarningEmployeeNames(1);
+
+        assertNotNull(response);
+        assertEquals(List.of("John Doe"), response.getBody());
+        verify(employeeService, times(1)).getTopHighestEarningEmployeeNames(1);
+    }
+
     @Test
     void testCreateEmployee_success() {
         when(employeeService.createEmployee(employee)).thenReturn(employee);
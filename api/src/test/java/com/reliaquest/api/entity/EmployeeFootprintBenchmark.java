@@ -0,0 +1,100 @@
+package com.reliaquest.api.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the heap retained per employee by the compact {@link Employee} and by the layout it replaced, one string per
+ * id, name, title and email. Each layout is measured as the drop in used heap after a million employees built the way
+ * a response is read, each with its own freshly decoded strings, become garbage. Run with
+ * {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeFootprintBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Alice", "Bob", "Carol", "Dave", "Erin", "Frank"};
+
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Brown", "Garcia", "Miller", "Davis"};
+
+    private static final String[] TITLES = {
+        "Software Engineer", "Product Manager", "Senior Accountant", "Regional Sales Director", "Design Lead",
+        "Marketing Coordinator", "Human Resources Specialist", "Operations Analyst"
+    };
+
+    /**
+     * The layout before the compact encoding: one string per field.
+     */
+    private record StringEmployee(String id, String name, int salary, int age, String title, String email) {}
+
+    @Test
+    void reportFootprint() {
+        Random random = new Random(42);
+        List<String[]> fields = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+            fields.add(new String[] {
+                UUID.randomUUID().toString(),
+                name,
+                TITLES[random.nextInt(TITLES.length)],
+                name.toLowerCase().replace(' ', '.') + "@company.com"
+            });
+        }
+
+        long strings = bytesPerEmployee(i -> {
+            String[] employee = fields.get(i);
+            return new StringEmployee(
+                    decoded(employee[0]), decoded(employee[1]), 50000, 30, decoded(employee[2]), decoded(employee[3]));
+        });
+        long compact = bytesPerEmployee(i -> {
+            String[] employee = fields.get(i);
+            return new Employee(
+                    decoded(employee[0]), decoded(employee[1]), 50000, 30, decoded(employee[2]), decoded(employee[3]));
+        });
+
+        System.out.printf("%-40s %8s%n", "layout", "bytes/employee");
+        System.out.printf("%-40s %8d%n", "one string per field", strings);
+        System.out.printf("%-40s %8d%n", "compact Employee", compact);
+        System.out.printf("%-40s %8.1fx%n", "reduction", (double) strings / compact);
+        assertTrue(compact < strings);
+    }
+
+    /**
+     * A copy of the string with its own characters, as a JSON parser produces for each field it reads.
+     */
+    private static String decoded(String value) {
+        return new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Heap released when a million employees, each built from the given index, are dropped.
+     */
+    private static long bytesPerEmployee(IntFunction<Object> factory) {
+        Object[] employees = new Object[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees[i] = factory.apply(i);
+        }
+        long retained = usedHeap();
+        employees[0] = employees.length; // Keeps the array reachable until measured
+        employees = null;
+        return (retained - usedHeap()) / EMPLOYEES;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdTest {
+
+    @Test
+    void testOf_RoundTripsEveryForm() {
+        String uuid = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+        assertEquals(uuid, EmployeeId.of(uuid).toString());
+        assertEquals("1", EmployeeId.of("1").toString());
+        // Not canonical, so kept as given rather than lower-cased
+        assertEquals(uuid.toUpperCase(), EmployeeId.of(uuid.toUpperCase()).toString());
+        String notHex = "zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz";
+        assertEquals(notHex, EmployeeId.of(notHex).toString());
+    }
+
+    @Test
+    void testEquals_MatchesStringEquality() {
+        String uuid = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+        assertEquals(EmployeeId.of(uuid), EmployeeId.of(uuid));
+        assertEquals(EmployeeId.of(uuid).hashCode(), EmployeeId.of(uuid).hashCode());
+        assertEquals(EmployeeId.of("1"), EmployeeId.of("1"));
+        assertNotEquals(EmployeeId.of(uuid), EmployeeId.of(uuid.toUpperCase()));
+        assertNotEquals(EmployeeId.of("1"), EmployeeId.of("2"));
+    }
+
+    @Test
+    void testCompareTo_OrdersAsStrings() {
+        List<String> ids = new ArrayList<>(List.of("1", "zz", "ffffffff-ffff-ffff-ffff-ffffffffffff"));
+        for (int i = 0; i < 200; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        List<String> byString = ids.stream().sorted().toList();
+        List<String> byId = ids.stream().map(EmployeeId::of).sorted().map(EmployeeId::toString).toList();
+
+        assertEquals(byString, byId);
+    }
+}
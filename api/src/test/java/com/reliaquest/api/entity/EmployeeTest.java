@@ -0,0 +1,67 @@
+package com.reliaquest.api.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class EmployeeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testGetters_DecodeCompactFields() {
+        Employee employee = new Employee(
+                "5255f1a5-f9f7-4be5-829a-134bde088d17",
+                "Zo\u00eb \u00c5ngstr\u00f6m",
+                50000,
+                30,
+                "Engineer",
+                "zoe@company.com");
+
+        assertEquals("5255f1a5-f9f7-4be5-829a-134bde088d17", employee.getId());
+        assertEquals("Zo\u00eb \u00c5ngstr\u00f6m", employee.getEmployee_name());
+        assertEquals(50000, employee.getEmployee_salary());
+        assertEquals(30, employee.getEmployee_age());
+        assertEquals("Engineer", employee.getEmployee_title());
+        assertEquals("zoe@company.com", employee.getEmployee_email());
+    }
+
+    @Test
+    void testTitle_IsPooled() {
+        Employee first = new Employee("1", "John Doe", 50000, 30, new String("Software Engineer"), null);
+        Employee second = new Employee("2", "Jane Doe", 60000, 28, new String("Software Engineer"), null);
+
+        assertSame(first.getEmployee_title(), second.getEmployee_title());
+    }
+
+    @Test
+    void testJson_KeepsPublicShape() throws Exception {
+        Employee employee = objectMapper.readValue(
+                "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":30,"
+                        + "\"employee_title\":\"Engineer\",\"employee_email\":\"john@company.com\"}",
+                Employee.class);
+
+        assertEquals("1", employee.getId());
+        assertEquals("john@company.com", employee.getEmployee_email());
+
+        JsonNode json = objectMapper.valueToTree(employee);
+        assertEquals(
+                objectMapper.readTree(
+                        "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,"
+                                + "\"employee_age\":30,\"employee_title\":\"Engineer\","
+                                + "\"employee_email\":\"john@company.com\"}"),
+                json);
+    }
+
+    @Test
+    void testEquals_ComparesIds() {
+        assertEquals(
+                new Employee("1", "John Doe", 50000, 30, null, null),
+                new Employee("1", "Johnny Doe", 55000, 31, null, null));
+        assertNotEquals(
+                new Employee("1", "John Doe", 50000, 30, null, null),
+                new Employee("2", "John Doe", 50000, 30, null, null));
+    }
+}
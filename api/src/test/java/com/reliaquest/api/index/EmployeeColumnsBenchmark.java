@@ -0,0 +1,84 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the stream pipelines over {@link Employee} objects that aggregations used to run with the primitive loops
+ * over {@link EmployeeColumns}, on a million employees. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeColumnsBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    private static final int WARMUP_ITERATIONS = 10;
+
+    private static final int ITERATIONS = 30;
+
+    @Test
+    void compareAggregations() {
+        List<Employee> employees = employees(EMPLOYEES);
+        long started = System.nanoTime();
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        System.out.printf(
+                "columns for %d employees built in %d ms%n", EMPLOYEES, (System.nanoTime() - started) / 1_000_000);
+
+        compare(
+                "highest salary",
+                () -> employees.stream().mapToInt(Employee::getEmployee_salary).max().orElse(0),
+                () -> columns.salaryStatistics().getMax());
+        compare(
+                "salary statistics",
+                () -> employees.stream().mapToInt(Employee::getEmployee_salary).summaryStatistics().getSum(),
+                () -> columns.salaryStatistics().getSum());
+        compare(
+                "average age",
+                () -> employees.stream().mapToInt(Employee::getEmployee_age).average().orElse(0),
+                () -> columns.ageStatistics().getAverage());
+    }
+
+    private static void compare(String name, Supplier<Object> stream, Supplier<Object> columnar) {
+        assertEquals(stream.get(), columnar.get());
+        double streamMillis = measure(stream);
+        double columnarMillis = measure(columnar);
+        System.out.printf(
+                "%-20s stream=%.2f ms columns=%.2f ms speedup=%.1fx%n",
+                name, streamMillis, columnarMillis, streamMillis / columnarMillis);
+    }
+
+    private static double measure(Supplier<Object> aggregation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = aggregation.get();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = aggregation.get();
+        }
+        assertNotNull(sink);
+        return (System.nanoTime() - started) / 1e6 / ITERATIONS;
+    }
+
+    private static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    String.valueOf(i),
+                    "Employee " + i,
+                    30000 + random.nextInt(470000),
+                    16 + random.nextInt(60),
+                    "Title " + random.nextInt(500),
+                    null));
+        }
+        return employees;
+    }
+}
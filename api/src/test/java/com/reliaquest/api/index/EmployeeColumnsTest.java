@@ -0,0 +1,76 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    private final List<Employee> employees = List.of(
+            new Employee("1", "John Doe", 50000, 30, "Software Engineer", null),
+            new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null),
+            new Employee("3", "Alice", 60000, 32, "Software Engineer", null),
+            new Employee("4", "Bob", 40000, 45, null, null));
+
+    @Test
+    void testOf_KeepsEmployeeOrder() {
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        assertEquals(4, columns.size());
+        assertEquals(50000, columns.salary(0));
+        assertEquals(60000, columns.salary(1));
+        assertEquals(45, columns.age(3));
+    }
+
+    @Test
+    void testAggregations() {
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        assertStatistics(new IntSummaryStatistics(4, 40000, 60000, 210000), columns.salaryStatistics());
+        assertStatistics(new IntSummaryStatistics(4, 28, 45, 135), columns.ageStatistics());
+    }
+
+    @Test
+    void testAggregations_Empty() {
+        assertEquals(0, EmployeeColumns.EMPTY.salaryStatistics().getCount());
+        assertEquals(0, EmployeeColumns.EMPTY.ageStatistics().getCount());
+    }
+
+    @Test
+    void testAggregations_InParallelChunksMatchStreams() {
+        List<Employee> many = employees(EmployeeColumns.PARALLEL_THRESHOLD * 4 + 17);
+        EmployeeColumns columns = EmployeeColumns.of(many);
+
+        assertStatistics(
+                many.stream().mapToInt(Employee::getEmployee_salary).summaryStatistics(), columns.salaryStatistics());
+        assertStatistics(
+                many.stream().mapToInt(Employee::getEmployee_age).summaryStatistics(), columns.ageStatistics());
+    }
+
+    private static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    String.valueOf(i),
+                    "Employee " + i,
+                    30000 + random.nextInt(470000),
+                    16 + random.nextInt(60),
+                    "Title " + random.nextInt(300),
+                    null));
+        }
+        return employees;
+    }
+
+    private static void assertStatistics(IntSummaryStatistics expected, IntSummaryStatistics actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getSum(), actual.getSum());
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+    }
+}
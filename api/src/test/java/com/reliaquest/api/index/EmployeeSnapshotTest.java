@@ -0,0 +1,131 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import com.reliaquest.api.store.EmployeeStore;
+import com.reliaquest.api.store.HeapEmployeeStore;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final EmployeeStore store = new HeapEmployeeStore() {
+        @Override
+        public List<Employee> snapshot() {
+            reads.incrementAndGet();
+            return super.snapshot();
+        }
+    };
+
+    private EmployeeSnapshot current = EmployeeSnapshot.EMPTY;
+
+    @Test
+    void testWrites_DoNotReadTheStore() {
+        for (int i = 1; i <= 100; i++) {
+            write(employee(i));
+        }
+
+        assertEquals(100, current.version());
+        assertFalse(current.isEmpty());
+        assertEquals(0, reads.get());
+
+        assertEquals(100, current.employees().size());
+        assertSame(current.employees(), current.employees());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testEmployeesRead_AreUnaffectedByLaterWrites() {
+        write(employee(1));
+        EmployeeSnapshot first = current;
+        List<Employee> employees = first.employees();
+
+        write(employee(2));
+
+        assertEquals(List.of(employee(1)), first.employees());
+        assertSame(employees, first.employees());
+        assertEquals(2, current.employees().size());
+    }
+
+    @Test
+    void testSupersededBeforeRead_AnswersWithSuccessor() {
+        write(employee(1));
+        EmployeeSnapshot unread = current;
+
+        write(employee(2));
+        write(employee(3));
+
+        assertEquals(1, unread.version());
+        assertEquals(3, unread.employees().size());
+        assertSame(current.employees(), unread.employees());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testWrite_WaitsForReadInProgress() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch finishRead = new CountDownLatch(1);
+        EmployeeStore slowStore = new HeapEmployeeStore() {
+            @Override
+            public List<Employee> snapshot() {
+                List<Employee> employees = super.snapshot();
+                reading.countDown();
+                await(finishRead);
+                return employees;
+            }
+        };
+        EmployeeSnapshot.EMPTY.supersede(slowStore, () -> slowStore.put(employee(1)), next -> current = next);
+        EmployeeSnapshot first = current;
+        CompletableFuture<List<Employee>> read = CompletableFuture.supplyAsync(first::employees);
+        reading.await();
+
+        CompletableFuture<Void> write = CompletableFuture.runAsync(
+                () -> first.supersede(slowStore, () -> slowStore.put(employee(2)), next -> current = next));
+        Thread.sleep(100);
+        assertFalse(write.isDone());
+        finishRead.countDown();
+        write.join();
+
+        assertEquals(List.of(employee(1)), read.join());
+        assertEquals(2, current.version());
+    }
+
+    @Test
+    void testFailedWrite_StillPublishesNextVersion() {
+        write(employee(1));
+
+        assertThrows(IllegalStateException.class, () -> current.supersede(
+                store,
+                () -> {
+                    store.remove(EmployeeId.of("1"));
+                    throw new IllegalStateException("index update failed");
+                },
+                next -> current = next));
+
+        assertEquals(2, current.version());
+        assertTrue(current.isEmpty());
+    }
+
+    private void write(Employee employee) {
+        current.supersede(store, () -> store.put(employee), next -> current = next);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Employee employee(int i) {
+        return new Employee(String.valueOf(i), "Employee " + i, 50000, 30, "Engineer", "employee" + i + "@company.com");
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class KllSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+
+    private static int[] salaries(int count, long seed) {
+        Random random = new Random(seed);
+        return random.ints(count, 30_000, 300_000).toArray();
+    }
+
+    /**
+     * How far, as a fraction of the values, the requested rank lies from the ranks the estimate actually occupies.
+     */
+    static double rankError(int[] sorted, double quantile, int estimate) {
+        int below = lowerBound(sorted, estimate);
+        int atOrBelow = lowerBound(sorted, estimate + 1);
+        double rank = quantile * sorted.length;
+        double distance = (rank < below) ? below - rank : Math.max(0, rank - atOrBelow);
+        return distance / sorted.length;
+    }
+
+    private static int lowerBound(int[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Test
+    void testQuantile_WithinRankErrorOfExactResult() {
+        int[] salaries = salaries(1_000_000, 42);
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K, new Random(7));
+        for (int salary : salaries) {
+            sketch.add(salary);
+        }
+        int[] sorted = salaries.clone();
+        Arrays.sort(sorted);
+
+        assertEquals(1_000_000, sketch.count());
+        for (double quantile : QUANTILES) {
+            int estimate = sketch.quantile(quantile);
+            assertTrue(
+                    rankError(sorted, quantile, estimate) <= sketch.rankError(),
+                    "q=" + quantile + " estimate=" + estimate);
+        }
+    }
+
+    @Test
+    void testRetained_BoundedRegardlessOfCount() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K, new Random(7));
+        int[] salaries = salaries(2_000_000, 1);
+        int mostRetained = 0;
+        for (int salary : salaries) {
+            sketch.add(salary);
+            mostRetained = Math.max(mostRetained, sketch.retained());
+        }
+
+        assertTrue(mostRetained <= 3 * KllSketch.DEFAULT_K + 64, "retained " + mostRetained);
+    }
+
+    @Test
+    void testMerge_KeepsAccuracyOfOneSketch() {
+        int[] salaries = salaries(200_000, 3);
+        KllSketch left = new KllSketch(KllSketch.DEFAULT_K, new Random(1));
+        KllSketch right = new KllSketch(KllSketch.DEFAULT_K, new Random(2));
+        for (int i = 0; i < salaries.length; i++) {
+            (i % 2 == 0 ? left : right).add(salaries[i]);
+        }
+        left.merge(right);
+        int[] sorted = salaries.clone();
+        Arrays.sort(sorted);
+
+        assertEquals(salaries.length, left.count());
+        for (double quantile : QUANTILES) {
+            assertTrue(rankError(sorted, quantile, left.quantile(quantile)) <= left.rankError(), "q=" + quantile);
+        }
+    }
+
+    @Test
+    void testQuantile_SmallStreamIsExact() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K, new Random(7));
+        for (int salary = 100; salary >= 1; salary--) {
+            sketch.add(salary);
+        }
+
+        assertEquals(1, sketch.quantile(0));
+        assertEquals(50, sketch.quantile(0.5));
+        assertEquals(99, sketch.quantile(0.99));
+        assertEquals(100, sketch.quantile(1));
+    }
+
+    @Test
+    void testQuantile_EmptyAndOutOfRange() {
+        KllSketch sketch = new KllSketch();
+
+        assertNull(sketch.quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(Double.NaN));
+    }
+}
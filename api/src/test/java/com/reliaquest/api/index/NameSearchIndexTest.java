@@ -0,0 +1,103 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    /** Employees the index looks up, as the service's store would hold them. */
+    private final Map<EmployeeId, Employee> stored = new HashMap<>();
+
+    private NameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameSearchIndex(stored::get);
+        add(new Employee("1", "John Doe", 50000, 30, "Software Engineer", "johndoe@company.com"));
+        add(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", "janedoe@company.com"));
+        add(new Employee("3", "Johnny Appleseed", 70000, 41, "Farmer", null));
+    }
+
+    @Test
+    void testSearch_IgnoresCase() {
+        assertEquals(Set.of("1", "3"), ids(index.search("JOHN")));
+        assertEquals(Set.of("1", "2"), ids(index.search("doe")));
+    }
+
+    @Test
+    void testSearch_ShortFragment() {
+        assertEquals(Set.of("1", "2", "3"), ids(index.search("")));
+        assertEquals(Set.of("1", "2", "3"), ids(index.search("o")));
+        assertEquals(Set.of("3"), ids(index.search("pp")));
+    }
+
+    @Test
+    void testSearch_NoMatch() {
+        assertTrue(index.search("Smith").isEmpty());
+        assertTrue(index.search("hn D x").isEmpty());
+    }
+
+    @Test
+    void testAddAndRemove_UpdatePostings() {
+        index.remove(EmployeeId.of("1"));
+        assertEquals(Set.of("3"), ids(index.search("john")));
+
+        add(new Employee("3", "Jack Black", 70000, 41, "Farmer", null));
+        assertTrue(index.search("john").isEmpty());
+        assertEquals(Set.of("3"), ids(index.search("ack bl")));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testSearch_MatchesContainsSemantics() {
+        Random random = new Random(42);
+        String alphabet = "abcAB c";
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Employee employee = new Employee(String.valueOf(i), randomString(random, alphabet, 12), 1, 20, "t", null);
+            employees.add(employee);
+            add(employee);
+        }
+        for (String id : List.of("1", "2", "3")) {
+            index.remove(EmployeeId.of(id));
+        }
+        employees.removeIf(employee -> Set.of("1", "2", "3").contains(employee.getId()));
+
+        for (int i = 0; i < 200; i++) {
+            String fragment = randomString(random, alphabet, 1 + random.nextInt(5));
+            Set<String> expected = employees.stream()
+                    .filter(emp -> emp.getEmployee_name().toLowerCase().contains(fragment.toLowerCase()))
+                    .map(Employee::getId)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, ids(index.search(fragment)), "fragment: " + fragment);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private void add(Employee employee) {
+        stored.put(employee.employeeId(), employee);
+        index.add(employee);
+    }
+
+    private static Set<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    /** Employees the index looks up, as the service's store would hold them. */
+    private final Map<EmployeeId, Employee> stored = new HashMap<>();
+
+    private SalaryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SalaryIndex(stored::get);
+        add(new Employee("1", "John Doe", 50000, 30, "Software Engineer", null));
+        add(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null));
+        add(new Employee("3", "Alice", 60000, 32, "HR Manager", null));
+    }
+
+    @Test
+    void testHighestSalary() {
+        assertEquals(60000, index.highestSalary());
+        assertEquals(0, new SalaryIndex(stored::get).highestSalary());
+    }
+
+    @Test
+    void testTop_OrdersBySalaryThenId() {
+        assertEquals(List.of("2", "3", "1"), ids(index.top(10)));
+        assertEquals(List.of("2"), ids(index.top(1)));
+        assertTrue(index.top(0).isEmpty());
+    }
+
+    @Test
+    void testAdd_ReplacesSalary() {
+        add(new Employee("1", "John Doe", 90000, 30, "Software Engineer", null));
+
+        assertEquals(90000, index.highestSalary());
+        assertEquals(List.of("1", "2", "3"), ids(index.top(10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRemove() {
+        index.remove(EmployeeId.of("2"));
+        index.remove(EmployeeId.of("3"));
+
+        assertEquals(50000, index.highestSalary());
+        assertEquals(List.of("1"), ids(index.top(10)));
+    }
+
+    private void add(Employee employee) {
+        stored.put(employee.employeeId(), employee);
+        index.add(employee);
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.SalaryQuantiles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SalaryQuantileIndexTest {
+
+    private static final List<Double> QUANTILES = List.of(0.01, 0.1, 0.5, 0.9, 0.99);
+
+    private final SalaryQuantileIndex index = new SalaryQuantileIndex(KllSketch.DEFAULT_K, new Random(7));
+
+    private static void assertWithinRankError(int[] live, SalaryQuantiles quantiles) {
+        int[] sorted = live.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted.length, quantiles.count());
+        assertEquals(QUANTILES.size(), quantiles.quantiles().size());
+        for (SalaryQuantiles.Quantile quantile : quantiles.quantiles()) {
+            assertTrue(
+                    KllSketchTest.rankError(sorted, quantile.quantile(), quantile.salary()) <= quantiles.rankError(),
+                    quantile.toString());
+        }
+    }
+
+    @Test
+    void testQuantiles_WithinRankErrorAfterRemovals() {
+        int[] salaries = new Random(42).ints(400_000, 30_000, 300_000).toArray();
+        for (int salary : salaries) {
+            index.add(salary);
+        }
+        // Remove every salary in the top fifth, which skews the live distribution
+        List<Integer> live = new ArrayList<>();
+        for (int salary : salaries) {
+            if (salary >= 246_000) {
+                index.remove(salary);
+            } else {
+                live.add(salary);
+            }
+        }
+
+        assertWithinRankError(live.stream().mapToInt(Integer::intValue).toArray(), index.quantiles(QUANTILES));
+        assertTrue(index.rankError() <= 1.5 * KllSketch.rankError(KllSketch.DEFAULT_K));
+    }
+
+    @Test
+    void testRebuildIfDrifted_RebuildsOnceRemovalsExceedAQuarter() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(new Employee(String.valueOf(i), "Employee " + i, 1000 + i, 30, null, null));
+            index.add(1000 + i);
+        }
+        for (int i = 0; i < 200; i++) {
+            index.remove(employees.remove(employees.size() - 1).getEmployee_salary());
+        }
+        assertFalse(index.rebuildIfDrifted(() -> employees));
+
+        index.remove(employees.remove(employees.size() - 1).getEmployee_salary());
+        assertTrue(index.rebuildIfDrifted(() -> employees));
+
+        assertEquals(799, index.count());
+        assertEquals(KllSketch.rankError(KllSketch.DEFAULT_K), index.rankError(), 1e-12);
+        assertEquals(1798, index.quantiles(List.of(1.0)).quantiles().get(0).salary());
+    }
+
+    @Test
+    void testQuantiles_NoEstimatesWithoutSalaries() {
+        SalaryQuantiles quantiles = index.quantiles(QUANTILES);
+
+        assertEquals(new SalaryQuantiles(0, 0, List.of()), quantiles);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import com.reliaquest.api.entity.TitleStatistics;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TitleStatisticsIndexTest {
+
+    private TitleStatisticsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleStatisticsIndex();
+        index.add(new Employee("1", "John Doe", 50000, 30, "Software Engineer", null));
+        index.add(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null));
+        index.add(new Employee("3", "Alice", 70000, 40, "Software Engineer", null));
+        index.add(new Employee("4", "Bob", 40000, 45, null, null));
+    }
+
+    @Test
+    void testAll_OrdersByTitle() {
+        assertEquals(
+                List.of(
+                        new TitleStatistics(
+                                "Product Manager",
+                                1,
+                                new TitleStatistics.Measure(60000, 60000.0, 60000, 60000),
+                                new TitleStatistics.Measure(28, 28.0, 28, 28)),
+                        new TitleStatistics(
+                                "Software Engineer",
+                                2,
+                                new TitleStatistics.Measure(120000, 60000.0, 50000, 70000),
+                                new TitleStatistics.Measure(70, 35.0, 30, 40))),
+                index.all());
+    }
+
+    @Test
+    void testRemove_UpdatesMinimumAndMaximum() {
+        index.remove(EmployeeId.of("3"));
+
+        TitleStatistics engineers = index.get("Software Engineer");
+        assertEquals(1, engineers.count());
+        assertEquals(new TitleStatistics.Measure(50000, 50000.0, 50000, 50000), engineers.salary());
+        assertEquals(new TitleStatistics.Measure(30, 30.0, 30, 30), engineers.age());
+    }
+
+    @Test
+    void testRemove_LastEmployeeRemovesTitle() {
+        index.remove(EmployeeId.of("2"));
+        index.remove(EmployeeId.of("99"));
+
+        assertNull(index.get("Product Manager"));
+        assertEquals(1, index.all().size());
+    }
+
+    @Test
+    void testAdd_ReplacesTitleAndSalary() {
+        index.add(new Employee("1", "John Doe", 90000, 31, "Product Manager", null));
+
+        TitleStatistics managers = index.get("Product Manager");
+        assertEquals(2, managers.count());
+        assertEquals(new TitleStatistics.Measure(150000, 75000.0, 60000, 90000), managers.salary());
+        TitleStatistics engineers = index.get("Software Engineer");
+        assertEquals(1, engineers.count());
+        assertEquals(70000, engineers.salary().min());
+    }
+
+    @Test
+    void testClear() {
+        index.clear();
+
+        assertTrue(index.all().isEmpty());
+        assertNull(index.get("Software Engineer"));
+    }
+}
@@ -0,0 +1,235 @@
+package com.reliaquest.api.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.entity.EmployeeChanges;
+import com.reliaquest.api.service.EmployeeService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEventSubscriberTest {
+
+    private static final String DELETED_4 =
+            "id:epoch-1:4\nevent:change\ndata:{\"sequence\":4,\"type\":\"DELETED\",\"id\":\"1\"}\n\n";
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private ObjectProvider<EmployeeEventSubscriber> subscriberProvider;
+
+    private HttpServer server;
+
+    private ExecutorService serverThreads;
+
+    /** The Last-Event-ID of each connection the subscriber made, or "" if it sent none. */
+    private final List<String> lastEventIds = new CopyOnWriteArrayList<>();
+
+    /** Released at the end of a test to end streams that are being held open. */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /** Serves each connection, given its number, starting from 1. */
+    private volatile Stream stream;
+
+    private EmployeeEventSubscriber subscriber;
+
+    private interface Stream {
+        void serve(int connection, HttpExchange exchange) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverThreads = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/events", exchange -> {
+            String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+            lastEventIds.add((lastEventId != null) ? lastEventId : "");
+            try {
+                stream.serve(lastEventIds.size(), exchange);
+            } catch (Exception e) {
+                // The subscriber went away
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (subscriber != null) {
+            subscriber.stop();
+        }
+        release.countDown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void testPushedChanges_AppliedAndResumedAfterDrop() throws Exception {
+        when(employeeService.applyPushedChange(eq("epoch-1"), any())).thenReturn(true);
+        stream = (connection, exchange) -> {
+            open(exchange);
+            if (connection == 1) {
+                write(exchange, DELETED_4); // Then the connection drops
+            } else {
+                holdOpen();
+            }
+        };
+
+        start(Duration.ofSeconds(30));
+
+        await(() -> lastEventIds.size() == 2);
+        assertEquals(List.of("", "epoch-1:4"), lastEventIds);
+        verify(employeeService)
+                .applyPushedChange("epoch-1", new EmployeeChanges.Change(4, EmployeeChanges.Type.DELETED, "1", null));
+        verify(employeeService, never()).refreshEmployeeCache();
+    }
+
+    @Test
+    void testUnappliedChange_RefreshesCache() throws Exception {
+        when(employeeService.applyPushedChange(eq("epoch-1"), any())).thenReturn(false);
+        stream = (connection, exchange) -> {
+            open(exchange);
+            write(exchange, DELETED_4);
+            holdOpen();
+        };
+
+        start(Duration.ofSeconds(30));
+
+        verify(employeeService, timeout(5000)).refreshEmployeeCache();
+    }
+
+    @Test
+    void testResync_RefreshesCache() throws Exception {
+        stream = (connection, exchange) -> {
+            open(exchange);
+            write(exchange, "id:epoch-1:3\nevent:resync\ndata:{\"epoch\":\"epoch-1\",\"resync\":true}\n\n");
+            holdOpen();
+        };
+
+        start(Duration.ofSeconds(30));
+
+        verify(employeeService, timeout(5000)).refreshEmployeeCache();
+        verify(employeeService, never()).applyPushedChange(any(), any());
+    }
+
+    @Test
+    void testSilentStream_ReplacedAndResumed() throws Exception {
+        when(employeeService.applyPushedChange(eq("epoch-1"), any())).thenReturn(true);
+        stream = (connection, exchange) -> {
+            open(exchange);
+            if (connection == 1) {
+                write(exchange, DELETED_4);
+            }
+            holdOpen(); // Without heartbeats
+        };
+
+        start(Duration.ofMillis(300));
+
+        await(() -> lastEventIds.size() >= 2);
+        assertEquals("epoch-1:4", lastEventIds.get(1));
+    }
+
+    @Test
+    void testConnectedStream_PollsUntilSynced() throws Exception {
+        stream = (connection, exchange) -> {
+            open(exchange);
+            write(exchange, ":heartbeat\n\n");
+            holdOpen();
+        };
+        start(Duration.ofSeconds(30));
+        await(subscriber::isConnected);
+        EmployeeCacheRefresher refresher = refresher();
+
+        // A cache that is behind the stream, for instance after a refresh that was rate limited, is still polled
+        when(employeeService.isSynced()).thenReturn(false);
+        refresher.refreshEmployees();
+        verify(employeeService, times(1)).refreshEmployeeCache();
+
+        when(employeeService.isSynced()).thenReturn(true);
+        refresher.refreshEmployees();
+        verify(employeeService, times(1)).refreshEmployeeCache();
+    }
+
+    @Test
+    void testMissingEventStream_FallsBackToPolling() throws Exception {
+        stream = (connection, exchange) -> exchange.sendResponseHeaders(404, -1);
+
+        start(Duration.ofSeconds(30));
+
+        await(() -> !subscriber.isRunning());
+        assertFalse(subscriber.isConnected());
+        assertEquals(1, lastEventIds.size());
+        refresher().refreshEmployees();
+        verify(employeeService, times(1)).refreshEmployeeCache();
+    }
+
+    private void start(Duration idleTimeout) {
+        subscriber = new EmployeeEventSubscriber(
+                employeeService,
+                new UpstreamBudget(Clock.systemUTC(), Duration.ofSeconds(30), Duration.ofMinutes(2), 1),
+                new ObjectMapper(),
+                new HttpClientProperties(null, null, null, null, null, 0, 0, null),
+                URI.create("http://localhost:" + server.getAddress().getPort() + "/events"),
+                Duration.ofMillis(10),
+                Duration.ofMillis(100),
+                idleTimeout);
+        subscriber.start();
+    }
+
+    private EmployeeCacheRefresher refresher() {
+        when(subscriberProvider.getIfAvailable()).thenReturn(subscriber);
+        return new EmployeeCacheRefresher(employeeService, subscriberProvider);
+    }
+
+    private static void open(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+    }
+
+    private static void write(HttpExchange exchange, String events) throws IOException {
+        OutputStream body = exchange.getResponseBody();
+        body.write(events.getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private void holdOpen() throws InterruptedException {
+        release.await();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.AsyncJsonClient;
+import com.reliaquest.api.client.DeadlineClientHttpRequestFactory;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.config.EmployeeBatchProperties;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.store.HeapEmployeeStore;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares create throughput of the blocking and asynchronous service methods when the upstream server is slow and the
+ * api has a small pool of request threads, as a servlet container does. A blocking request holds its thread for the
+ * whole upstream round trip; an asynchronous one only for as long as it takes to send the request. Run with
+ * {@code ./gradlew api:benchmark}; the fake upstream binds port 8112, so the mock server must not be running.
+ */
+@Tag("benchmark")
+class AsyncThroughputBenchmark {
+
+    private static final int REQUEST_THREADS = 16;
+
+    private static final int REQUESTS = 800;
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(100);
+
+    @Test
+    void compareThroughput() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        HttpServer upstream = HttpServer.create(new InetSocketAddress("localhost", 8112), 1024);
+        upstream.setExecutor(Executors.newFixedThreadPool(REQUESTS));
+        upstream.createContext("/api/v1/employee", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"data\":{\"id\":\"" + created.incrementAndGet()
+                            + "\",\"employee_name\":\"Employee\",\"employee_salary\":50000,"
+                            + "\"employee_age\":30,\"employee_title\":\"Engineer\"},\"status\":\"ok\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        upstream.start();
+
+        HttpClientProperties properties = new HttpClientProperties(null, null, null, null, null, 0, 0, Map.of());
+        RestTemplateConfig config = new RestTemplateConfig();
+        DeadlineClientHttpRequestFactory requestFactory = config.upstreamRequestFactory(properties);
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmployeeService employeeService = new EmployeeService(
+                new RestTemplate(requestFactory),
+                new SingleFlight<>(Duration.ofSeconds(30)),
+                new UpstreamBudget(Clock.systemUTC(), Duration.ofSeconds(30), Duration.ofMinutes(2), 1),
+                config.asyncJsonClient(properties, objectMapper),
+                EmployeeBatchProperties.DISABLED,
+                new HeapEmployeeStore());
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        try {
+            Employee input = new Employee("Employee", 50000, 30, "Engineer");
+
+            double blocking = measure("blocking", () -> {
+                List<Future<Employee>> responses = new ArrayList<>();
+                for (int i = 0; i < REQUESTS; i++) {
+                    responses.add(requestThreads.submit(() -> employeeService.createEmployee(input)));
+                }
+                for (Future<Employee> response : responses) {
+                    assertNotNull(response.get(60, TimeUnit.SECONDS));
+                }
+            });
+
+            double async = measure("async", () -> {
+                List<CompletableFuture<Employee>> responses = new ArrayList<>();
+                for (int i = 0; i < REQUESTS; i++) {
+                    // The request thread only starts the call, as the controller does before returning its future
+                    responses.add(CompletableFuture.supplyAsync(
+                                    () -> employeeService.createEmployeeAsync(input), requestThreads)
+                            .thenCompose(response -> response));
+                }
+                for (CompletableFuture<Employee> response : responses) {
+                    assertNotNull(response.get(60, TimeUnit.SECONDS));
+                }
+            });
+
+            System.out.printf("async/blocking throughput ratio %.1f%n", async / blocking);
+            assertEquals(2 * REQUESTS, created.get());
+        } finally {
+            requestThreads.shutdownNow();
+            requestFactory.destroy();
+            upstream.stop(0);
+        }
+    }
+
+    private static double measure(String name, Run run) throws Exception {
+        long start = System.nanoTime();
+        run.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double throughput = REQUESTS / seconds;
+        System.out.printf(
+                "%-8s requests=%d request threads=%d upstream latency=%dms elapsed=%.2fs throughput=%.0f req/s%n",
+                name, REQUESTS, REQUEST_THREADS, UPSTREAM_LATENCY.toMillis(), seconds, throughput);
+        return throughput;
+    }
+
+    private interface Run {
+        void run() throws Exception;
+    }
+}
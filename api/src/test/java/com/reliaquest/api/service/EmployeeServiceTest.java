@@ -3,18 +3,47 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.AsyncJsonClient;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamBudget;
+import com.reliaquest.api.config.EmployeeBatchProperties;
 import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeChanges;
 import com.reliaquest.api.entity.EmployeeRequest;
+import com.reliaquest.api.entity.SalaryQuantiles;
+import com.reliaquest.api.entity.TitleStatistics;
 import com.reliaquest.api.exceptions.ResourceNotFoundException;
+import com.reliaquest.api.exceptions.TooManyRequestsException;
+import com.reliaquest.api.store.HeapEmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +52,9 @@ class EmployeeServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
+    @Mock
+    private AsyncJsonClient asyncClient;
+
     private EmployeeService employeeService;
 
     private Employee employee1;
@@ -31,33 +62,325 @@ class EmployeeServiceTest {
     private List<Employee> mockEmployees;
 
     @BeforeEach
-    void setUp(TestInfo testInfo) {
-        if (testInfo.getTestMethod().isPresent()
-                && testInfo.getTestMethod().get().getName().equals("testCreateEmployee_Success")) {
-            return; // Skip setup for this specific test
-        }
+    void setUp() {
+        employeeService = new EmployeeService(
+                restTemplate,
+                new SingleFlight<>(Duration.ofSeconds(5)),
+                new UpstreamBudget(Clock.systemUTC(), Duration.ofSeconds(30), Duration.ofMinutes(2), 1),
+                asyncClient,
+                EmployeeBatchProperties.DISABLED,
+                new HeapEmployeeStore());
         employee1 = new Employee("1", "John Doe", 50000, 30, "Software Engineer", "johndoe@company.com");
         employee2 = new Employee("2", "Jane Doe", 60000, 28, "Product Manager", "janedoe@company.com");
         mockEmployees = new ArrayList<>(Arrays.asList(employee1, employee2));
+    }
+
+    /**
+     * Answer full employee list fetches through the RestTemplate with the current mockEmployees, running the service's
+     * own response extractor over the JSON the upstream server would send.
+     */
+    private void stubEmployeeList() {
+        when(restTemplate.execute(
+                        anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> invocation
+                        .<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(employeeListJson(), HttpStatus.OK)));
+    }
 
-        EmployeeService.EmployeeResponse response = new EmployeeService.EmployeeResponse();
-        response.setData(mockEmployees);
+    /**
+     * Answer full employee list fetches through the asynchronous client with the current mockEmployees.
+     */
+    private void stubEmployeeListAsync() {
+        when(asyncClient.get(anyString(), any(AsyncJsonClient.BodyReader.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation
+                        .<AsyncJsonClient.BodyReader<?>>getArgument(1)
+                        .read(new ByteArrayInputStream(employeeListJson()))));
+    }
 
-        when(restTemplate.getForEntity(anyString(), eq(EmployeeService.EmployeeResponse.class)))
-                .thenReturn(ResponseEntity.ok(response));
+    /**
+     * The upstream list response for the current mockEmployees, which tests may change between fetches.
+     */
+    private byte[] employeeListJson() throws Exception {
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (Employee employee : mockEmployees) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", employee.getId());
+            json.put("employee_name", employee.getEmployee_name());
+            json.put("employee_salary", employee.getEmployee_salary());
+            json.put("employee_age", employee.getEmployee_age());
+            json.put("employee_title", employee.getEmployee_title());
+            json.put("employee_email", employee.getEmployee_email());
+            data.add(json);
+        }
+        return new ObjectMapper()
+                .writeValueAsBytes(Map.of("data", data, "status", "Successfully processed request."));
     }
 
     @Test
     void testGetAllEmployees_Success() {
+        stubEmployeeList();
+
         List<Employee> employees = employeeService.getAllEmployees();
 
         assertEquals(2, employees.size());
-        assertEquals("Jane Doe", employees.get(0).getEmployee_name());
+        assertTrue(employees.contains(employee1));
+        assertTrue(employees.contains(employee2));
+    }
+
+    @Test
+    void testGetAllEmployees_SharesImmutableSnapshot() {
+        stubEmployeeList();
+
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        assertSame(employees, employeeService.getAllEmployees());
+        assertThrows(UnsupportedOperationException.class, () -> employees.add(employee1));
+    }
+
+    @Test
+    void testGetAllEmployees_WithoutEmail() {
+        stubEmployeeList();
+
+        mockEmployees.add(new Employee("3", "Alice", 70000, 32, "HR Manager", null));
+        mockEmployees.add(new Employee("4", "Bob", 40000, 45, "Accountant", null));
+
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        assertEquals(4, employees.size());
+        assertEquals("Alice", employeeService.getEmployeeById("3").getEmployee_name());
+        assertEquals("Bob", employeeService.getEmployeeById("4").getEmployee_name());
+    }
+
+    @Test
+    void testInitializeEmployeeCache_AppliesDelta() {
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
+        long version = employeeService.getEmployeeSnapshot().version();
+
+        mockEmployees.remove(employee1);
+        mockEmployees.set(0, new Employee("2", "Jane Doe", 65000, 28, "Product Manager", "janedoe@company.com"));
+        mockEmployees.add(new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com"));
+        employeeService.initializeEmployeeCache();
+
+        assertEquals(version + 1, employeeService.getEmployeeSnapshot().version());
+        assertEquals(2, employeeService.getAllEmployees().size());
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById("1"));
+        assertEquals(65000, employeeService.getEmployeeById("2").getEmployee_salary());
+        assertEquals(List.of("Alice", "Jane Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    @Test
+    void testInitializeEmployeeCache_UnchangedKeepsVersion() {
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
+        long version = employeeService.getEmployeeSnapshot().version();
+
+        employeeService.initializeEmployeeCache();
+
+        assertEquals(version, employeeService.getEmployeeSnapshot().version());
+    }
+
+    @Test
+    void testInitializeEmployeeCache_FetchFailureKeepsCache() {
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
+        doThrow(new ResourceAccessException("timed out"))
+                .when(restTemplate)
+                .execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+
+        employeeService.initializeEmployeeCache();
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void testRefreshEmployeeCache_ResyncsThenAppliesChanges() {
+        stubEmployeeList();
+
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 3, true))
+                .thenReturn(changes(
+                        "epoch-1",
+                        5,
+                        false,
+                        new EmployeeChanges.Change(
+                                4,
+                                EmployeeChanges.Type.CREATED,
+                                "3",
+                                new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com")),
+                        new EmployeeChanges.Change(5, EmployeeChanges.Type.DELETED, "1", null)));
+
+        employeeService.refreshEmployeeCache();
+        employeeService.refreshEmployeeCache();
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById("1"));
+        assertEquals(List.of("Alice", "Jane Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(restTemplate).getForObject(
+                endsWith("/changes?limit=1000"), eq(EmployeeService.EmployeeChangesResponse.class));
+        verify(restTemplate).getForObject(
+                contains("epoch=epoch-1&since=3"), eq(EmployeeService.EmployeeChangesResponse.class));
+        verify(restTemplate, times(1))
+                .execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void testRefreshEmployeeCache_ResyncsWhenChangesAreGone() {
+        stubEmployeeList();
+
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 3, true))
+                .thenReturn(changes("epoch-2", 1, true))
+                .thenReturn(changes("epoch-2", 1, false));
+
+        employeeService.refreshEmployeeCache();
+        mockEmployees.add(new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com"));
+        employeeService.refreshEmployeeCache();
+        employeeService.refreshEmployeeCache();
+
+        assertEquals(3, employeeService.getAllEmployees().size());
+        verify(restTemplate).getForObject(
+                contains("epoch=epoch-2&since=1"), eq(EmployeeService.EmployeeChangesResponse.class));
+        verify(restTemplate, times(2))
+                .execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void testRefreshEmployeeCache_ChangeLogFailureKeepsCache() {
+        stubEmployeeList();
+
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 3, true))
+                .thenThrow(new ResourceAccessException("timed out"));
+
+        employeeService.refreshEmployeeCache();
+        employeeService.refreshEmployeeCache();
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        verify(restTemplate, times(1))
+                .execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void testRefreshEmployeeCache_WithoutChangeLogReloadsEverything() {
+        stubEmployeeList();
+
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), new byte[0], null));
+
+        employeeService.refreshEmployeeCache();
+        mockEmployees.remove(employee1);
+        employeeService.refreshEmployeeCache();
+
+        assertEquals(List.of(employee2), employeeService.getAllEmployees());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class));
+    }
+
+    @Test
+    void testRefreshEmployeeCache_ResyncReadsAfterLatest() throws Exception {
+        // A read starts fetching the list, and gets an answer from before employee 3 was created
+        byte[] before = employeeListJson();
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch answer = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        when(restTemplate.execute(
+                        anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    byte[] json = before;
+                    if (fetches.incrementAndGet() == 1) {
+                        fetching.countDown();
+                        answer.await();
+                    } else {
+                        json = employeeListJson();
+                    }
+                    return invocation
+                            .<ResponseExtractor<?>>getArgument(3)
+                            .extractData(new MockClientHttpResponse(json, HttpStatus.OK));
+                });
+        CompletableFuture<List<Employee>> read = CompletableFuture.supplyAsync(employeeService::getAllEmployees);
+        fetching.await();
+
+        mockEmployees.add(new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com"));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 1, true));
+        employeeService.refreshEmployeeCache();
+        answer.countDown();
+        read.join();
+
+        // The resync made its own fetch, so the cache has the change it now counts as applied
+        assertEquals(2, fetches.get());
+        assertEquals("Alice", employeeService.getEmployeeById("3").getEmployee_name());
+        assertTrue(employeeService.isSynced());
+    }
+
+    @Test
+    void testApplyPushedChange_AppliesOnlyTheNextChange() {
+        stubEmployeeList();
+
+        EmployeeChanges.Change created = new EmployeeChanges.Change(
+                4,
+                EmployeeChanges.Type.CREATED,
+                "3",
+                new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com"));
+        // Not synced with the change log yet
+        assertFalse(employeeService.applyPushedChange("epoch-1", created));
+
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 3, true));
+        employeeService.refreshEmployeeCache();
+        long version = employeeService.getEmployeeSnapshot().version();
+
+        assertTrue(employeeService.applyPushedChange("epoch-1", created));
+        assertTrue(employeeService.applyPushedChange("epoch-1", created)); // Already applied
+        assertFalse(employeeService.applyPushedChange(
+                "epoch-1", new EmployeeChanges.Change(6, EmployeeChanges.Type.DELETED, "1", null))); // Missed 5
+        assertFalse(employeeService.applyPushedChange(
+                "epoch-2", new EmployeeChanges.Change(5, EmployeeChanges.Type.DELETED, "1", null)));
+        assertTrue(employeeService.applyPushedChange(
+                "epoch-1", new EmployeeChanges.Change(5, EmployeeChanges.Type.DELETED, "1", null)));
+
+        assertEquals(version + 2, employeeService.getEmployeeSnapshot().version());
+        assertEquals(List.of("Alice", "Jane Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    @Test
+    void testIsSynced_OnlyWhileCaughtUpWithChangeLog() {
+        stubEmployeeList();
+        when(restTemplate.getForObject(anyString(), eq(EmployeeService.EmployeeChangesResponse.class)))
+                .thenReturn(changes("epoch-1", 3, true))
+                .thenThrow(new ResourceAccessException("timed out"))
+                .thenReturn(changes("epoch-1", 3, false));
+        assertFalse(employeeService.isSynced());
+
+        employeeService.refreshEmployeeCache();
+        assertTrue(employeeService.isSynced());
+
+        // A pushed change that skips one leaves the cache behind until a refresh catches up
+        assertFalse(employeeService.applyPushedChange(
+                "epoch-1", new EmployeeChanges.Change(5, EmployeeChanges.Type.DELETED, "1", null)));
+        assertFalse(employeeService.isSynced());
+        employeeService.refreshEmployeeCache();
+        assertFalse(employeeService.isSynced());
+        employeeService.refreshEmployeeCache();
+        assertTrue(employeeService.isSynced());
+    }
+
+    private static EmployeeService.EmployeeChangesResponse changes(
+            String epoch, long latest, boolean resync, EmployeeChanges.Change... changes) {
+        EmployeeService.EmployeeChangesResponse response = new EmployeeService.EmployeeChangesResponse();
+        response.setData(new EmployeeChanges(epoch, latest, resync, List.of(changes)));
+        return response;
     }
 
     @Test
     void testGetEmployeeById_Success() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         Employee result = employeeService.getEmployeeById("1");
 
@@ -67,7 +390,9 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeeById_NotFound() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
             employeeService.getEmployeeById("99");
@@ -78,7 +403,9 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeesByName_Success() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         List<Employee> result = employeeService.getEmployeesByName("John");
 
@@ -88,7 +415,9 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeesByName_NotFound() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
             employeeService.getEmployeesByName("Unknown");
@@ -99,7 +428,9 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalary_Success() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         int highestSalary = employeeService.getHighestSalary();
 
@@ -108,7 +439,9 @@ class EmployeeServiceTest {
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_Success() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
+        stubEmployeeList();
+
+        employeeService.initializeEmployeeCache();
 
         List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -116,6 +449,70 @@ class EmployeeServiceTest {
         assertEquals("Jane Doe", topEarners.get(0));
     }
 
+    @Test
+    void testGetTopHighestEarningEmployeeNames_Limited() {
+        stubEmployeeList();
+
+        List<String> topEarners = employeeService.getTopHighestEarningEmployeeNames(1);
+
+        assertEquals(List.of("Jane Doe"), topEarners);
+    }
+
+    @Test
+    void testGetSalaryAndAgeStatistics() {
+        stubEmployeeList();
+
+        IntSummaryStatistics salaries = employeeService.getSalaryStatistics();
+        IntSummaryStatistics ages = employeeService.getAgeStatistics();
+
+        assertEquals(2, salaries.getCount());
+        assertEquals(50000, salaries.getMin());
+        assertEquals(60000, salaries.getMax());
+        assertEquals(55000.0, salaries.getAverage());
+        assertEquals(28, ages.getMin());
+        assertEquals(30, ages.getMax());
+    }
+
+    @Test
+    void testGetSalaryQuantiles() {
+        stubEmployeeList();
+
+        SalaryQuantiles quantiles = employeeService.getSalaryQuantiles(List.of(0.5, 1.0));
+
+        assertEquals(2, quantiles.count());
+        assertEquals(
+                List.of(new SalaryQuantiles.Quantile(0.5, 50000), new SalaryQuantiles.Quantile(1.0, 60000)),
+                quantiles.quantiles());
+        assertTrue(quantiles.rankError() > 0);
+    }
+
+    @Test
+    void testGetTitleStatistics_FollowsCreatesAndDeletes() {
+        stubEmployeeList();
+
+        assertEquals(
+                List.of("Product Manager", "Software Engineer"),
+                employeeService.getTitleStatistics().stream()
+                        .map(TitleStatistics::title)
+                        .toList());
+
+        String id = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+        EmployeeService.EmployeeSingleResponse response = new EmployeeService.EmployeeSingleResponse();
+        response.setData(new Employee(id, "Alice", 70000, 32, "Software Engineer", "alice@company.com"));
+        when(restTemplate.postForEntity(anyString(), any(EmployeeRequest.class), eq(EmployeeService.EmployeeSingleResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+        employeeService.createEmployee(response.getData());
+
+        TitleStatistics engineers = employeeService.getTitleStatistics("Software Engineer");
+        assertEquals(2, engineers.count());
+        assertEquals(new TitleStatistics.Measure(120000, 60000.0, 50000, 70000), engineers.salary());
+
+        employeeService.deleteEmployeeById(id);
+
+        assertEquals(50000, employeeService.getTitleStatistics("Software Engineer").salary().max());
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.getTitleStatistics("HR Manager"));
+    }
+
     @Test
     void testCreateEmployee_Success() {
         Employee newEmployee = new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com");
@@ -131,25 +528,209 @@ class EmployeeServiceTest {
 
         assertNotNull(createdEmployee);
         assertEquals("Alice", createdEmployee.getEmployee_name());
+        assertEquals(1, employeeService.getEmployeeSnapshot().version());
+        assertEquals(List.of(createdEmployee), employeeService.getAllEmployees());
     }
 
     @Test
-    void testDeleteEmployeeById_Success() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
-
-        employeeService.deleteEmployeeById("1");
+    void testCreateEmployee_RateLimited() {
+        Employee newEmployee = new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com");
+        when(restTemplate.postForEntity(anyString(), any(EmployeeRequest.class), eq(EmployeeService.EmployeeSingleResponse.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), new byte[0], null));
+
+        assertThrows(TooManyRequestsException.class, () -> employeeService.createEmployee(newEmployee));
+        // The server is known to be rejecting requests, so the second attempt is not sent
+        assertThrows(TooManyRequestsException.class, () -> employeeService.createEmployee(newEmployee));
+        verify(restTemplate, times(1))
+                .postForEntity(anyString(), any(EmployeeRequest.class), eq(EmployeeService.EmployeeSingleResponse.class));
+    }
 
-        assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById("1"));
+    @Test
+    void testDeleteEmployeeById_Success() {
+        String id = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+        // Deletes go straight to the upstream server by id, without loading the cache first
+        employeeService.deleteEmployeeById(id);
+
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + id),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(Void.class));
+        verifyNoMoreInteractions(restTemplate);
     }
 
     @Test
     void testDeleteEmployeeById_NotFound() {
-        employeeService.getAllEmployees().addAll(mockEmployees);
-
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
             employeeService.deleteEmployeeById("99");
         });
 
         assertEquals("No employee found with id: 99", exception.getMessage());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testDeleteEmployeeById_UpstreamNotFound() {
+        String id = "d005f39a-beb8-4390-afec-fd54e91d94ee";
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), new byte[0], null));
+
+        Exception exception =
+                assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployeeById(id));
+
+        assertEquals("No employee found with id: " + id, exception.getMessage());
+    }
+
+    @Test
+    void testCreateEmployee_BatchedCallersGetTheirOwnEmployee() {
+        EmployeeService batchedService = batchedEmployeeService();
+        Employee alice = new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com");
+        Employee bob = new Employee("4", "Bob", 40000, 45, "Accountant", "bob@company.com");
+        EmployeeService.EmployeeBatchResponse response = new EmployeeService.EmployeeBatchResponse();
+        response.setData(List.of(alice, bob));
+        when(asyncClient.post(endsWith("/batch"), any(), eq(EmployeeService.EmployeeBatchResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<Employee> createdAlice = batchedService.createEmployeeAsync(alice);
+        Employee createdBob = batchedService.createEmployee(bob); // Fills the batch, which is sent at once
+
+        assertEquals("Alice", createdAlice.join().getEmployee_name());
+        assertEquals("Bob", createdBob.getEmployee_name());
+        verify(asyncClient, times(1)).post(anyString(), any(), any());
+        // Both employees were cached in one write
+        assertEquals(1, batchedService.getEmployeeSnapshot().version());
+        assertEquals(List.of("Alice", "Bob"), batchedService.getTopTenHighestEarningEmployeeNames());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testCreateEmployee_BatchedInvalidRequestFailsAlone() {
+        EmployeeService batchedService = batchedEmployeeService();
+        Employee alice = new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com");
+        Employee tooYoung = new Employee("4", "Tim", 40000, 12, "Intern", "tim@company.com");
+        Employee bob = new Employee("5", "Bob", 40000, 45, "Accountant", "bob@company.com");
+        EmployeeService.EmployeeBatchResponse response = new EmployeeService.EmployeeBatchResponse();
+        response.setData(List.of(alice, bob));
+        when(asyncClient.post(endsWith("/batch"), any(), eq(EmployeeService.EmployeeBatchResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        // The upstream server answers an invalid create with a server error
+        when(asyncClient.post(endsWith("/employee"), any(), eq(EmployeeService.EmployeeSingleResponse.class)))
+                .thenReturn(CompletableFuture.failedFuture(HttpServerErrorException.create(
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", new HttpHeaders(), new byte[0], null)));
+
+        // All three arrive within one window
+        CompletableFuture<Employee> createdAlice = batchedService.createEmployeeAsync(alice);
+        CompletableFuture<Employee> rejected = batchedService.createEmployeeAsync(tooYoung);
+        CompletableFuture<Employee> createdBob = batchedService.createEmployeeAsync(bob);
+
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(HttpServerErrorException.class, exception.getCause());
+        assertEquals("Alice", createdAlice.join().getEmployee_name());
+        assertEquals("Bob", createdBob.join().getEmployee_name());
+        // Only the valid creates were batched
+        verify(asyncClient)
+                .post(
+                        endsWith("/batch"),
+                        argThat((Map<String, List<EmployeeRequest>> body) -> body.get("employees").stream()
+                                .map(EmployeeRequest::getName)
+                                .toList()
+                                .equals(List.of("Alice", "Bob"))),
+                        any());
+    }
+
+    @Test
+    void testDeleteEmployeeById_BatchedReportsEachOutcome() {
+        EmployeeService batchedService = batchedEmployeeService();
+        String deletedId = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+        String unknownId = "d005f39a-beb8-4390-afec-fd54e91d94ee";
+        EmployeeService.DeleteBatchResponse response = new EmployeeService.DeleteBatchResponse();
+        response.setData(List.of(true, false));
+        when(asyncClient.delete(
+                        endsWith("/batch"),
+                        eq(Map.of("ids", List.of(deletedId, unknownId))),
+                        eq(EmployeeService.DeleteBatchResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<Void> deleted = batchedService.deleteEmployeeByIdAsync(deletedId);
+        CompletableFuture<Void> unknown = batchedService.deleteEmployeeByIdAsync(unknownId);
+
+        assertNull(deleted.join());
+        CompletionException exception = assertThrows(CompletionException.class, unknown::join);
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
+        // Ids the upstream server could not have issued are rejected without a request
+        assertThrows(ResourceNotFoundException.class, () -> batchedService.deleteEmployeeById("99"));
+        verify(asyncClient, times(1)).delete(anyString(), any(), any());
+    }
+
+    /**
+     * A service that sends writes in batches of two, so that tests control when a batch is sent.
+     */
+    private EmployeeService batchedEmployeeService() {
+        return new EmployeeService(
+                restTemplate,
+                new SingleFlight<>(Duration.ofSeconds(5)),
+                new UpstreamBudget(Clock.systemUTC(), Duration.ofSeconds(30), Duration.ofMinutes(2), 1),
+                asyncClient,
+                new EmployeeBatchProperties(true, Duration.ofMinutes(1), 2),
+                new HeapEmployeeStore());
+    }
+
+    @Test
+    void testGetAllEmployeesAsync_LoadsWithoutRestTemplate() {
+        stubEmployeeListAsync();
+
+        List<Employee> employees = employeeService.getAllEmployeesAsync().join();
+
+        assertEquals(2, employees.size());
+        assertEquals("Jane Doe", employeeService.getEmployeeByIdAsync("2").join().getEmployee_name());
+        assertEquals(60000, employeeService.getHighestSalaryAsync().join());
+        verify(asyncClient, times(1)).get(anyString(), any(AsyncJsonClient.BodyReader.class));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testGetEmployeesByNameAsync_NotFound() {
+        stubEmployeeListAsync();
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> employeeService.getEmployeesByNameAsync("Unknown").join());
+
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void testCreateEmployeeAsync_Success() {
+        Employee newEmployee = new Employee("3", "Alice", 70000, 32, "HR Manager", "alice@company.com");
+        EmployeeService.EmployeeSingleResponse response = new EmployeeService.EmployeeSingleResponse();
+        response.setData(newEmployee);
+        when(asyncClient.post(anyString(), any(EmployeeRequest.class), eq(EmployeeService.EmployeeSingleResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        Employee createdEmployee = employeeService.createEmployeeAsync(newEmployee).join();
+
+        assertEquals("Alice", createdEmployee.getEmployee_name());
+        assertEquals(List.of(createdEmployee), employeeService.getAllEmployeesAsync().join());
+    }
+
+    @Test
+    void testDeleteEmployeeByIdAsync_Success() {
+        stubEmployeeListAsync();
+
+        String id = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+        mockEmployees.add(new Employee(id, "Bill Bob", 89750, 24, "Documentation Engineer", "billbob@company.com"));
+        assertEquals("Bill Bob", employeeService.getEmployeeByIdAsync(id).join().getEmployee_name());
+        when(asyncClient.delete("http://localhost:8112/api/v1/employee/" + id))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        employeeService.deleteEmployeeByIdAsync(id).join();
+
+        CompletionException exception = assertThrows(
+                CompletionException.class, () -> employeeService.getEmployeeByIdAsync(id).join());
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
     }
 }
@@ -0,0 +1,125 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the heap and off-heap employee stores holding two million employees: load and read throughput, the heap
+ * each leaves live, the pause of a full collection over it, and the collections caused by a refresh that replaces a
+ * fifth of the employees. Run with {@code ./gradlew api:benchmark}, with a heap of a few gigabytes.
+ */
+@Tag("benchmark")
+class EmployeeStoreBenchmark {
+
+    private static final int EMPLOYEES = 2_000_000;
+
+    private static final int READS = 2_000_000;
+
+    private static final int FULL_COLLECTIONS = 3;
+
+    private static final String[] TITLES = {
+        "Software Engineer", "Product Manager", "Senior Accountant", "Regional Sales Director", "Design Lead",
+        "Marketing Coordinator", "Human Resources Specialist", "Operations Analyst"
+    };
+
+    @Test
+    void compareStores() {
+        EmployeeId[] ids = new EmployeeId[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            ids[i] = EmployeeId.of(UUID.randomUUID().toString());
+        }
+
+        System.out.printf(
+                "%-10s %12s %12s %14s %14s %14s %14s%n",
+                "store", "puts/s", "gets/s", "live heap MB", "full GC ms", "refresh GCs", "refresh GC ms");
+        run("heap", HeapEmployeeStore::new, ids);
+        run("off-heap", OffHeapEmployeeStore::new, ids);
+    }
+
+    private static void run(String name, Supplier<EmployeeStore> stores, EmployeeId[] ids) {
+        long baseline = usedHeapAfterCollection();
+        EmployeeStore store = stores.get();
+        Random random = new Random(42);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            store.put(employee(ids[i], i, random));
+        }
+        double putsPerSecond = EMPLOYEES / ((System.nanoTime() - started) / 1e9);
+
+        started = System.nanoTime();
+        long salaries = 0;
+        for (int i = 0; i < READS; i++) {
+            salaries += store.get(ids[random.nextInt(EMPLOYEES)]).getEmployee_salary();
+        }
+        double getsPerSecond = READS / ((System.nanoTime() - started) / 1e9);
+        assertTrue(salaries > 0);
+
+        long liveHeap = usedHeapAfterCollection() - baseline;
+
+        long fullPauses = collectionMillis();
+        for (int i = 0; i < FULL_COLLECTIONS; i++) {
+            System.gc();
+        }
+        double fullPause = (collectionMillis() - fullPauses) / (double) FULL_COLLECTIONS;
+
+        // A refresh that finds a fifth of the employees changed, applied as the service applies a delta
+        long collections = collectionCount();
+        long pauses = collectionMillis();
+        for (int i = 0; i < EMPLOYEES; i += 5) {
+            store.put(employee(ids[i], i + 1, random));
+        }
+        List<Employee> snapshot = store.snapshot();
+        assertEquals(EMPLOYEES, snapshot.size());
+
+        System.out.printf(
+                "%-10s %12.0f %12.0f %14d %14.0f %14d %14d%n",
+                name,
+                putsPerSecond,
+                getsPerSecond,
+                liveHeap >> 20,
+                fullPause,
+                collectionCount() - collections,
+                collectionMillis() - pauses);
+    }
+
+    private static Employee employee(EmployeeId id, int i, Random random) {
+        return new Employee(
+                id,
+                "Employee Number " + i,
+                30_000 + random.nextInt(270_000),
+                20 + random.nextInt(45),
+                TITLES[random.nextInt(TITLES.length)],
+                "employee." + i + "@company.com");
+    }
+
+    private static long usedHeapAfterCollection() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long collectionCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long collectionMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
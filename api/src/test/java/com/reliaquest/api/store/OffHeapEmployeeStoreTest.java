@@ -0,0 +1,142 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.entity.EmployeeId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OffHeapEmployeeStoreTest {
+
+    private final OffHeapEmployeeStore store = new OffHeapEmployeeStore(1024);
+
+    private static void assertSameEmployee(Employee expected, Employee actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.employeeId(), actual.employeeId());
+    }
+
+    @Test
+    void testPutAndGet_RoundTripEveryField() {
+        Employee uuidId = new Employee(
+                "5255f1a5-f9f7-4be5-829a-134bde088d17",
+                "Zo\u00eb \u00c5ngstr\u00f6m",
+                50000,
+                30,
+                "Software Engineer",
+                "zoe@company.com");
+        Employee stringId = new Employee("1", null, -1, 0, null, null);
+
+        assertNull(store.put(uuidId));
+        assertNull(store.put(stringId));
+
+        assertSameEmployee(uuidId, store.get(uuidId.employeeId()));
+        assertSameEmployee(stringId, store.get(EmployeeId.of("1")));
+        assertNull(store.get(EmployeeId.of("2")));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testPutAndRemove_ReturnPreviousEmployee() {
+        Employee john = new Employee("1", "John Doe", 50000, 30, "Software Engineer", null);
+        Employee promoted = new Employee("1", "John Doe", 90000, 31, "Engineering Manager", null);
+        store.put(john);
+
+        assertSameEmployee(john, store.put(promoted));
+        assertSameEmployee(promoted, store.get(EmployeeId.of("1")));
+        assertSameEmployee(promoted, store.remove(EmployeeId.of("1")));
+        assertNull(store.remove(EmployeeId.of("1")));
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    void testSnapshot_UnaffectedByLaterWritesAndCompaction() {
+        for (int i = 0; i < 20; i++) {
+            store.put(new Employee(String.valueOf(i), "Employee " + i, 1000 + i, 30, "Clerk", null));
+        }
+        List<Employee> snapshot = store.snapshot();
+        Set<String> before = new HashSet<>();
+        snapshot.forEach(employee -> before.add(employee.toString()));
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                store.put(new Employee(String.valueOf(i), "Renamed " + round, 2000 + i, 31, "Analyst", null));
+            }
+        }
+        store.remove(EmployeeId.of("0"));
+
+        Set<String> after = new HashSet<>();
+        snapshot.forEach(employee -> after.add(employee.toString()));
+        assertEquals(before, after);
+        assertEquals(19, store.snapshot().size());
+        assertEquals("Renamed 49", store.get(EmployeeId.of("1")).getEmployee_name());
+    }
+
+    @Test
+    void testCompaction_BoundsGarbage() {
+        Employee employee = new Employee("1", "John Doe", 50000, 30, "Software Engineer", null);
+        for (int i = 0; i < 10_000; i++) {
+            store.put(employee);
+        }
+
+        // Compaction runs once garbage outweighs live records and fills a segment
+        assertTrue(store.garbageBytes() < 1024, "garbage " + store.garbageBytes());
+        assertTrue(store.allocatedBytes() <= 2 * 1024, "allocated " + store.allocatedBytes());
+        assertSameEmployee(employee, store.get(EmployeeId.of("1")));
+    }
+
+    @Test
+    void testPut_RecordLargerThanSegment() {
+        Employee employee = new Employee("1", "x".repeat(5000), 50000, 30, "Software Engineer", null);
+
+        store.put(employee);
+        store.put(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null));
+
+        assertSameEmployee(employee, store.get(EmployeeId.of("1")));
+        assertEquals("Jane Doe", store.get(EmployeeId.of("2")).getEmployee_name());
+    }
+
+    @Test
+    void testTitles_BeyondDictionaryAreWrittenInline() {
+        for (int i = 0; i < OffHeapEmployeeStore.MAX_TITLES + 10; i++) {
+            store.put(new Employee(String.valueOf(i), "Employee", 1, 20, "Title " + i, null));
+        }
+
+        assertEquals("Title 0", store.get(EmployeeId.of("0")).getEmployee_title());
+        String last = String.valueOf(OffHeapEmployeeStore.MAX_TITLES + 9);
+        assertEquals("Title " + last, store.get(EmployeeId.of(last)).getEmployee_title());
+    }
+
+    @Test
+    void testRandomOperations_MatchHeapStore() {
+        HeapEmployeeStore expected = new HeapEmployeeStore();
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        for (int i = 0; i < 20_000; i++) {
+            EmployeeId id = EmployeeId.of(ids.get(random.nextInt(ids.size())));
+            if (random.nextInt(3) == 0) {
+                Employee removed = expected.remove(id);
+                Employee actual = store.remove(id);
+                assertEquals(String.valueOf(removed), String.valueOf(actual));
+            } else {
+                Employee employee = new Employee(
+                        id.toString(), "Employee " + i, random.nextInt(200_000), 20 + random.nextInt(40), "Clerk", null);
+                assertEquals(String.valueOf(expected.put(employee)), String.valueOf(store.put(employee)));
+            }
+        }
+
+        assertEquals(expected.ids(), store.ids());
+        for (EmployeeId id : expected.ids()) {
+            assertSameEmployee(expected.get(id), store.get(id));
+        }
+        assertEquals(expected.size(), store.snapshot().size());
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.index.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SnapshotResponseInterceptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeService employeeService;
+
+    private SnapshotResponseInterceptor interceptor;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+        interceptor = new SnapshotResponseInterceptor(employeeService, objectMapper);
+        employees = List.of(new Employee("1", "John Doe", 50000, 30, "Software Engineer", "johndoe@company.com"));
+        when(employeeService.getCurrentSnapshot()).thenReturn(new EmployeeSnapshot(1, employees));
+    }
+
+    @Test
+    void testGetAllEmployees_ServesSerializedSnapshotOnce() throws Exception {
+        MockHttpServletResponse first = get("/", null);
+        MockHttpServletResponse second = get("/", null);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(objectMapper.writeValueAsString(employees), first.getContentAsString());
+        assertNotNull(first.getHeader("ETag"));
+        assertEquals(first.getHeader("ETag"), second.getHeader("ETag"));
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployees_NotModified() throws Exception {
+        String etag = get("/", null).getHeader("ETag");
+
+        MockHttpServletResponse response = get("/", "W/\"other\", " + etag);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void testGetAllEmployees_NewVersionIsReserialized() throws Exception {
+        String etag = get("/", null).getHeader("ETag");
+        List<Employee> updated = List.of(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null));
+        when(employeeService.getCurrentSnapshot()).thenReturn(new EmployeeSnapshot(2, updated));
+
+        MockHttpServletResponse response = get("/", etag);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(objectMapper.writeValueAsString(updated), response.getContentAsString());
+        assertNotEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void testGetAllEmployees_WriteBeforeListCacheEvictedServesNewSnapshot() throws Exception {
+        get("/", null);
+        // A write has published version 2, but the employees cache is only evicted once the write method returns
+        List<Employee> updated = List.of(new Employee("2", "Jane Doe", 60000, 28, "Product Manager", null));
+        when(employeeService.getCurrentSnapshot()).thenReturn(new EmployeeSnapshot(2, updated));
+        lenient().when(employeeService.getAllEmployees()).thenReturn(employees);
+
+        MockHttpServletResponse during = get("/", null);
+        MockHttpServletResponse after = get("/", null);
+
+        assertEquals(objectMapper.writeValueAsString(updated), during.getContentAsString());
+        assertEquals(objectMapper.writeValueAsString(updated), after.getContentAsString());
+        assertEquals(during.getHeader("ETag"), after.getHeader("ETag"));
+    }
+
+    @Test
+    void testGetHighestSalary() throws Exception {
+        when(employeeService.getHighestSalary()).thenReturn(50000);
+
+        MockHttpServletResponse response = get("/highestSalary", null);
+
+        assertEquals("50000", response.getContentAsString());
+    }
+
+    @Test
+    void testOtherRequests_PassThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testEmptySnapshot_PassesThroughToHandler() throws Exception {
+        when(employeeService.getCurrentSnapshot()).thenReturn(EmployeeSnapshot.EMPTY);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request, response, null));
+        return response;
+    }
+}
@@ -1,19 +1,26 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.SeededMockEmployees;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -30,11 +37,82 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return new Faker(Locale.getDefault());
     }
 
+    /**
+     * How the initial mock employees are generated.
+     */
+    public enum Generation {
+        /** Serially, from unseeded random data. */
+        RANDOM,
+        /** In parallel, reproducibly from {@code mock.employees.seed}. */
+        SEEDED,
+        /** Like {@code SEEDED}, but each employee is only generated when it is read. */
+        LAZY
+    }
+
+    /**
+     * Holds the latest {@code mock.employees.changes.capacity} creates and deletes for clients catching up.
+     */
+    @Bean
+    public MockEmployeeChangeLog mockEmployeeChangeLog(@Value("${mock.employees.changes.capacity:10000}") int capacity) {
+        return new MockEmployeeChangeLog(capacity);
+    }
+
+    /**
+     * Keeps the employees across restarts when {@code mock.employees.persistence.directory} is set.
+     */
+    @Bean
+    @ConditionalOnProperty("mock.employees.persistence.directory")
+    public MockEmployeeJournal mockEmployeeJournal(
+            @Value("${mock.employees.persistence.directory}") Path directory,
+            @Value("${mock.employees.persistence.snapshot-every:100000}") long snapshotEvery,
+            @Value("${mock.employees.persistence.fsync:false}") boolean fsync) {
+        return new MockEmployeeJournal(directory, snapshotEvery, fsync);
+    }
+
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") long maxEmployees,
+            @Value("${mock.employees.generation:random}") Generation generation,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            ObjectProvider<MockEmployeeJournal> journal)
+            throws IOException {
+        final var persistent = journal.getIfAvailable();
+        if (persistent != null) {
+            // Generation only runs when there is no snapshot to recover from
+            return persistent.open(() -> generate(faker, maxEmployees, generation, seed));
+        }
+        return generate(faker, maxEmployees, generation, seed);
+    }
+
+    private static MockEmployeeStore generate(Faker faker, long maxEmployees, Generation generation, Long seed) {
+        if (generation == Generation.RANDOM) {
+            return randomMockEmployeeStore(faker, maxEmployees);
+        }
+
+        // Seeded data uses a fixed locale so that a seed produces the same employees on every machine
+        final var effectiveSeed = (seed != null) ? seed : RandomGenerator.getDefault().nextLong();
+        final var seeded = new SeededMockEmployees(effectiveSeed, maxEmployees, Locale.ENGLISH);
+        if (generation == Generation.LAZY) {
+            log.info("Generating {} employees on demand from seed {}.", maxEmployees, effectiveSeed);
+            return new MockEmployeeStore(seeded);
+        }
+
+        final var started = System.nanoTime();
+        final var store = new MockEmployeeStore();
+        store.putAll(Arrays.asList(seeded.generateAll()));
+        log.info(
+                "Generated {} employees from seed {} in {} ms.",
+                maxEmployees,
+                effectiveSeed,
+                (System.nanoTime() - started) / 1_000_000);
+        return store;
+    }
+
+    private static MockEmployeeStore randomMockEmployeeStore(Faker faker, long maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -46,10 +124,12 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        final var store = new MockEmployeeStore();
+        LongStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .forEach(store::put);
+        return store;
     }
 
     @Override
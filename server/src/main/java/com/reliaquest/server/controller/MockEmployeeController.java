@@ -1,34 +1,126 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeEventPublisher;
 import jakarta.validation.Valid;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    private final MockEmployeeEventPublisher eventPublisher;
+
+    /**
+     * Without parameters, every employee in one response. With a {@code cursor} and/or {@code limit}, one page in id
+     * order, with a {@code Link} header to the next page while there may be more.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<Collection<MockEmployee>>> getEmployees(
+            @RequestParam(value = "cursor", required = false) UUID cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+
+        final var pageSize = Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        final var page = mockEmployeeService.page(cursor, pageSize);
+        final var response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            final var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.get(page.size() - 1).getId())
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next));
+        }
+        return response.body(Response.handledWith(page));
+    }
+
+    /**
+     * Every employee in id order as newline-delimited JSON, one employee per line. Employees are read and written a
+     * chunk at a time, so memory use does not grow with the number of employees.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        final var writer = objectMapper.writerFor(MockEmployee.class);
+        final StreamingResponseBody body = outputStream -> {
+            UUID cursor = null;
+            List<MockEmployee> chunk;
+            do {
+                chunk = mockEmployeeService.page(cursor, STREAM_CHUNK_SIZE);
+                for (MockEmployee mockEmployee : chunk) {
+                    outputStream.write(writer.writeValueAsBytes(mockEmployee));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                if (!chunk.isEmpty()) {
+                    cursor = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Creates and deletes made after sequence number {@code since}, oldest first, at most {@code limit} of them. Without
+     * an {@code epoch}, with one from an earlier run of the server, or once the requested changes have been dropped
+     * from the change log, the response asks the client to resync: re-read all employees, then continue from the
+     * returned {@code latest}.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getChanges(
+            @RequestParam(value = "epoch", required = false) String epoch,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        final var pageSize = Math.max(1, Math.min(limit != null ? limit : MAX_PAGE_SIZE, MAX_PAGE_SIZE));
+        return Response.handledWith(mockEmployeeService.changesSince(epoch, since, pageSize));
+    }
+
+    /**
+     * Creates and deletes as Server-Sent Events, starting after {@code Last-Event-ID} when it is given and the changes
+     * since are still held, or otherwise with a {@code resync} event.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventPublisher.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
@@ -44,8 +136,38 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /**
+     * Deletes exactly the employee with this id. Prefer it to deleting by name, which removes the first employee with
+     * a matching name, whoever that is.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<Boolean>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        if (mockEmployeeService.deleteById(uuid)) {
+            return ResponseEntity.ok(Response.handledWith(true));
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Creates every employee in one request, which counts once against the request limit. The employees are returned
+     * in input order.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    /**
+     * Deletes the employees with the given ids in one request, which counts once against the request limit. The
+     * response holds, for each id in input order, whether an employee was deleted.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAll(input.getIds()));
+    }
 }
@@ -0,0 +1,27 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * One create or delete, numbered by its position in the change log.
+ *
+ * @param employee the created employee, or null for a delete
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChange(long sequence, Type type, UUID id, MockEmployee employee) {
+
+    public static MockEmployeeChange created(long sequence, @NonNull MockEmployee employee) {
+        return new MockEmployeeChange(sequence, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static MockEmployeeChange deleted(long sequence, @NonNull UUID id) {
+        return new MockEmployeeChange(sequence, Type.DELETED, id, null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
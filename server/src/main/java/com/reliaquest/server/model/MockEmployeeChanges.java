@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * A run of consecutive changes from the change log.
+ *
+ * @param epoch identifies this run of the server; sequence numbers start over when it changes
+ * @param latest sequence number of the latest change, or 0 if there has been none
+ * @param resync whether the requested changes are no longer all available, in which case {@code changes} is empty and
+ *     the client must re-read all employees and continue from {@code latest}
+ */
+public record MockEmployeeChanges(String epoch, long latest, boolean resync, List<MockEmployeeChange> changes) {}
@@ -4,11 +4,14 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +25,125 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final MockEmployeeChangeLog changeLog;
+
+    /**
+     * All employees in id order, as a live read-only view.
+     */
+    public Collection<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.all();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    /**
+     * Up to {@code limit} employees with ids greater than {@code cursor}, in id order. Ids never change, so paging with
+     * the last id of each page as the next cursor visits every employee that exists throughout exactly once.
+     *
+     * @param cursor id to start after, or null to start from the lowest id
+     */
+    public List<MockEmployee> page(UUID cursor, int limit) {
+        return mockEmployeeStore.page(cursor, limit);
+    }
+
+    /**
+     * Up to {@code limit} changes after sequence number {@code since} of {@code epoch}, or a request to resync.
+     */
+    public MockEmployeeChanges changesSince(String epoch, long since, int limit) {
+        return changeLog.since(epoch, since, limit);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        synchronized (changeLog) {
+            mockEmployeeStore.put(mockEmployee);
+            changeLog.created(mockEmployee);
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Create every employee as one step, so their changes are consecutive in the change log.
+     *
+     * @return the created employees, in input order
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::newMockEmployee).toList();
+        synchronized (changeLog) {
+            for (MockEmployee mockEmployee : mockEmployees) {
+                mockEmployeeStore.put(mockEmployee);
+                changeLog.created(mockEmployee);
+            }
+        }
+        log.debug("Added {} employees in one batch.", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (changeLog) {
+            mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+            mockEmployee.ifPresent(removed -> changeLog.deleted(removed.getId()));
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /**
+     * Delete the employee with the given id, found through the id index rather than by name.
+     *
+     * @return whether an employee was deleted
+     */
+    public boolean deleteById(@NonNull UUID id) {
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (changeLog) {
+            mockEmployee = removeAndRecord(id);
+        }
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Delete the employees with the given ids as one step, so their changes are consecutive in the change log.
+     *
+     * @return for each id, in input order, whether an employee was deleted
+     */
+    public List<Boolean> deleteAll(@NonNull List<UUID> ids) {
+        final var deleted = new ArrayList<Boolean>(ids.size());
+        synchronized (changeLog) {
+            for (UUID id : ids) {
+                deleted.add(removeAndRecord(id).isPresent());
+            }
+        }
+        log.debug(
+                "Removed {} of {} employees in one batch.",
+                deleted.stream().filter(Boolean::booleanValue).count(),
+                ids.size());
+        return deleted;
+    }
+
+    /**
+     * Remove an employee and record the change. The caller holds the change log's lock.
+     */
+    private Optional<MockEmployee> removeAndRecord(UUID id) {
+        final var removed = mockEmployeeStore.remove(id);
+        removed.ifPresent(mockEmployee -> changeLog.deleted(mockEmployee.getId()));
+        return removed;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
 }
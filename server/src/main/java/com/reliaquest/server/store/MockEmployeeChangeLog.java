@@ -0,0 +1,86 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * The latest creates and deletes, numbered 1, 2, 3, ... in the order they were applied, so that clients can catch up
+ * on what changed instead of re-reading every employee. Only the latest {@code capacity} changes are held; a client
+ * that falls further behind is told to resync.
+ *
+ * Sequence numbers are only meaningful within one {@link #epoch()}, which is new every time the server starts. Callers
+ * hold this log's lock across applying a change and recording it, so that the log's order is the order of the store.
+ */
+public class MockEmployeeChangeLog {
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final MockEmployeeChange[] changes;
+
+    /** Sequence number of the latest change, or 0 if there has been none. */
+    private long latest;
+
+    private final List<Consumer<MockEmployeeChange>> listeners = new CopyOnWriteArrayList<>();
+
+    public MockEmployeeChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be positive: " + capacity);
+        }
+        this.changes = new MockEmployeeChange[capacity];
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Pass every later change to {@code listener}, in order, while this log's lock is held, so it must not block.
+     *
+     * @return the sequence number of the latest change before the listener was added
+     */
+    public synchronized long addListener(@NonNull Consumer<MockEmployeeChange> listener) {
+        listeners.add(listener);
+        return latest;
+    }
+
+    public synchronized long created(@NonNull MockEmployee mockEmployee) {
+        return append(MockEmployeeChange.created(latest + 1, mockEmployee));
+    }
+
+    public synchronized long deleted(@NonNull UUID id) {
+        return append(MockEmployeeChange.deleted(latest + 1, id));
+    }
+
+    /**
+     * Up to {@code limit} changes after sequence number {@code since}, oldest first. Changes are idempotent, so a client
+     * may apply them to employees it read after some of them were made.
+     *
+     * @param epoch the epoch {@code since} belongs to, or null if the client has not synced yet
+     */
+    public synchronized MockEmployeeChanges since(String epoch, long since, int limit) {
+        final var oldest = Math.max(1, latest - changes.length + 1);
+        if (!this.epoch.equals(epoch) || since > latest || since < oldest - 1) {
+            return new MockEmployeeChanges(this.epoch, latest, true, List.of());
+        }
+        final var count = (int) Math.min(Math.max(limit, 0), latest - since);
+        final var result = new ArrayList<MockEmployeeChange>(count);
+        for (long sequence = since + 1; sequence <= since + count; sequence++) {
+            result.add(changes[(int) (sequence % changes.length)]);
+        }
+        return new MockEmployeeChanges(this.epoch, latest, false, result);
+    }
+
+    private long append(MockEmployeeChange change) {
+        latest = change.sequence();
+        changes[(int) (latest % changes.length)] = change;
+        listeners.forEach(listener -> listener.accept(change));
+        return latest;
+    }
+}
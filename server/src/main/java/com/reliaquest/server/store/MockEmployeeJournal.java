@@ -0,0 +1,228 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} across restarts with a compact binary snapshot and a write-ahead log of the changes
+ * made since. Every create and delete is appended to the log before it is applied; once the log holds
+ * {@code snapshotEvery} changes, the next change first writes a new snapshot and empties the log. At startup the
+ * snapshot is mapped into memory and read, and the log is replayed on top of it.
+ *
+ * The snapshot is written to a temporary file and then moved into place, so it is always complete. The log may end in
+ * a torn record after a crash, which recovery drops. Unless {@code fsync} is set, log appends reach the operating
+ * system but not necessarily the disk, so a power failure, but not a crash of the server, can lose the latest changes.
+ *
+ * A store generated on demand is snapshotted as its seed and its changes, so it stays on demand after recovery.
+ */
+@Slf4j
+public class MockEmployeeJournal implements MockEmployeeStore.WriteAheadLog, Closeable {
+
+    private static final String SNAPSHOT = "employees.snapshot";
+
+    private static final String LOG = "employees.log";
+
+    private final Path directory;
+
+    private final long snapshotEvery;
+
+    private final boolean fsync;
+
+    private final MockEmployeeRecords records = new MockEmployeeRecords();
+
+    private MockEmployeeStore store;
+
+    private FileChannel logChannel;
+
+    private long logged;
+
+    /**
+     * @param snapshotEvery number of logged changes after which the next change first writes a new snapshot
+     * @param fsync whether each change is forced to disk before it is applied
+     */
+    public MockEmployeeJournal(@NonNull Path directory, long snapshotEvery, boolean fsync) {
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("snapshotEvery must be positive: " + snapshotEvery);
+        }
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Recover the store from the snapshot and log, or if there is no snapshot, create it with {@code generator} and
+     * write its first snapshot. Later changes to the returned store are logged.
+     */
+    public synchronized MockEmployeeStore open(@NonNull Supplier<MockEmployeeStore> generator) throws IOException {
+        if (store != null) {
+            throw new IllegalStateException("Journal is already open");
+        }
+        Files.createDirectories(directory);
+        final var snapshotFile = directory.resolve(SNAPSHOT);
+        final var logFile = directory.resolve(LOG);
+        if (Files.exists(snapshotFile)) {
+            store = recover(snapshotFile, logFile);
+        } else {
+            if (Files.exists(logFile)) {
+                log.warn("Discarding {}, which has no snapshot to apply to.", logFile);
+                Files.delete(logFile);
+            }
+            store = generator.get();
+            synchronized (store) {
+                writeSnapshot();
+            }
+        }
+        logChannel = FileChannel.open(
+                logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        store.attach(this);
+        return store;
+    }
+
+    @Override
+    public void put(MockEmployee mockEmployee) {
+        append(records.put(mockEmployee));
+    }
+
+    @Override
+    public void remove(UUID id) {
+        append(records.remove(id));
+    }
+
+    /**
+     * Flush the log and stop accepting changes. The log is left in place and replayed by the next {@link #open}.
+     */
+    @Override
+    public void close() throws IOException {
+        if (store == null) {
+            return;
+        }
+        synchronized (store) {
+            if (logChannel != null && logChannel.isOpen()) {
+                logChannel.force(false);
+                logChannel.close();
+            }
+        }
+    }
+
+    /**
+     * Called by the store, which holds its lock, so changes and snapshots never overlap.
+     */
+    private void append(ByteBuffer record) {
+        try {
+            if (!logChannel.isOpen()) {
+                throw new IOException("Employee log is closed");
+            }
+            if (logged >= snapshotEvery) {
+                writeSnapshot();
+            }
+            while (record.hasRemaining()) {
+                logChannel.write(record);
+            }
+            if (fsync) {
+                logChannel.force(false);
+            }
+            logged++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not log employee change", e);
+        }
+    }
+
+    private MockEmployeeStore recover(Path snapshotFile, Path logFile) throws IOException {
+        final var started = System.nanoTime();
+        final var recovered = new MockEmployeeStore[1];
+        try (var channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            final var end = MockEmployeeRecords.read(channel, payload -> {
+                final var type = payload.get();
+                if (recovered[0] == null) {
+                    if (type != MockEmployeeRecords.HEADER) {
+                        throw new IOException("Employee snapshot has no header");
+                    }
+                    recovered[0] = new MockEmployeeStore(MockEmployeeRecords.readHeader(payload));
+                } else {
+                    MockEmployeeRecords.apply(type, payload, recovered[0]);
+                }
+            });
+            if (recovered[0] == null || end != channel.size()) {
+                throw new IOException("Employee snapshot " + snapshotFile + " is corrupt at offset " + end);
+            }
+        }
+
+        if (Files.exists(logFile)) {
+            try (var channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final var end = MockEmployeeRecords.read(channel, payload -> {
+                    MockEmployeeRecords.apply(payload.get(), payload, recovered[0]);
+                    logged++;
+                });
+                if (end != channel.size()) {
+                    log.warn(
+                            "Dropping {} bytes of torn or corrupt records at the end of {}.",
+                            channel.size() - end,
+                            logFile);
+                    channel.truncate(end);
+                    channel.force(true);
+                }
+            }
+        }
+        log.info(
+                "Recovered {} employees from {} and {} logged changes in {} ms.",
+                recovered[0].size(),
+                snapshotFile,
+                logged,
+                (System.nanoTime() - started) / 1_000_000);
+        return recovered[0];
+    }
+
+    /**
+     * Replace the snapshot with the store's current state and empty the log. The caller holds the store's lock.
+     */
+    private void writeSnapshot() throws IOException {
+        final var started = System.nanoTime();
+        final var snapshotFile = directory.resolve(SNAPSHOT);
+        final var temporary = directory.resolve(SNAPSHOT + ".tmp");
+        try (var channel = FileChannel.open(
+                        temporary,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                var out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16)) {
+            out.write(records.header(store.generated()).array());
+            final var generated = store.generated();
+            if (generated != null) {
+                for (long index : store.removedGenerated()) {
+                    out.write(records.remove(generated.idOf(index)).array());
+                }
+            }
+            for (MockEmployee mockEmployee : store.stored()) {
+                out.write(records.put(mockEmployee).array());
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (logChannel != null) {
+            logChannel.truncate(0);
+            logChannel.force(true);
+        }
+        logged = 0;
+        log.info(
+                "Wrote snapshot of {} employees to {} in {} ms.",
+                store.size(),
+                snapshotFile,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
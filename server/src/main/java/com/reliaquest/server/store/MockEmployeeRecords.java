@@ -0,0 +1,231 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Binary encoding of store changes, shared by the snapshot and the log. A file is a sequence of framed records: the
+ * payload length, the CRC32 of the payload and the payload, whose first byte is the record type. A snapshot starts with
+ * a {@link #HEADER} record and is otherwise a sequence of changes that rebuilds the store when applied to an empty one.
+ *
+ * Both changes are idempotent, so applying a log again over a snapshot that already includes some of it is harmless.
+ * An encoder instance reuses its buffers and is not thread-safe.
+ */
+final class MockEmployeeRecords {
+
+    static final byte HEADER = 0;
+
+    static final byte PUT = 1;
+
+    static final byte REMOVE = 2;
+
+    private static final long MAGIC = 0x4D4F_434B_454D_504CL;
+
+    private static final int VERSION = 1;
+
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+
+    /** Largest region of a file mapped at once, well below the 2 GiB a mapped buffer can address. */
+    private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    private final ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+
+    private final DataOutputStream out = new DataOutputStream(payload);
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Visits the payload of each record read from a file. The payload is only valid during the call.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(ByteBuffer payload) throws IOException;
+    }
+
+    /**
+     * Header of a snapshot, describing the employees generated on demand if there are any.
+     *
+     * @param generated employees generated on demand, or null
+     */
+    ByteBuffer header(SeededMockEmployees generated) {
+        return frame(() -> {
+            out.writeByte(HEADER);
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeBoolean(generated != null);
+            if (generated != null) {
+                out.writeLong(generated.seed());
+                out.writeLong(generated.count());
+                writeString(generated.locale().toLanguageTag());
+            }
+        });
+    }
+
+    ByteBuffer put(MockEmployee mockEmployee) {
+        return frame(() -> {
+            out.writeByte(PUT);
+            writeId(mockEmployee.getId());
+            writeString(mockEmployee.getName());
+            writeInteger(mockEmployee.getSalary());
+            writeInteger(mockEmployee.getAge());
+            writeString(mockEmployee.getTitle());
+            writeString(mockEmployee.getEmail());
+        });
+    }
+
+    ByteBuffer remove(UUID id) {
+        return frame(() -> {
+            out.writeByte(REMOVE);
+            writeId(id);
+        });
+    }
+
+    /**
+     * Read a snapshot header, after its type byte.
+     *
+     * @return the employees generated on demand, or null if there are none
+     */
+    static SeededMockEmployees readHeader(ByteBuffer payload) throws IOException {
+        if (payload.getLong() != MAGIC) {
+            throw new IOException("Not an employee snapshot");
+        }
+        final var version = payload.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported employee snapshot version " + version);
+        }
+        if (payload.get() == 0) {
+            return null;
+        }
+        final var seed = payload.getLong();
+        final var count = payload.getLong();
+        return new SeededMockEmployees(seed, count, Locale.forLanguageTag(readString(payload)));
+    }
+
+    /**
+     * Apply a change record, after its type byte, to a store.
+     */
+    static void apply(byte type, ByteBuffer payload, MockEmployeeStore store) throws IOException {
+        switch (type) {
+            case PUT -> store.put(MockEmployee.builder()
+                    .id(readId(payload))
+                    .name(readString(payload))
+                    .salary(readInteger(payload))
+                    .age(readInteger(payload))
+                    .title(readString(payload))
+                    .email(readString(payload))
+                    .build());
+            case REMOVE -> store.remove(readId(payload));
+            default -> throw new IOException("Unexpected employee record type " + type);
+        }
+    }
+
+    /**
+     * Visit every intact record of a file in order, mapping it into memory a window at a time.
+     *
+     * @return the offset just past the last intact record, which is the file size unless the file ends with a torn or
+     *     corrupt record
+     */
+    static long read(FileChannel channel, Visitor visitor) throws IOException {
+        final var size = channel.size();
+        final var crc = new CRC32();
+        long position = 0;
+        while (position < size) {
+            final var window =
+                    channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_WINDOW_BYTES));
+            while (window.remaining() >= FRAME_HEADER_BYTES) {
+                final var start = window.position();
+                final var length = window.getInt();
+                final var checksum = window.getInt();
+                if (length < 0 || length > window.remaining()) {
+                    // Either the record continues past this window or the file ends inside it
+                    window.position(start);
+                    break;
+                }
+                final var payload = window.slice(window.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return position + start;
+                }
+                visitor.visit(payload);
+                window.position(window.position() + length);
+            }
+            if (window.position() == 0) {
+                break;
+            }
+            position += window.position();
+        }
+        return position;
+    }
+
+    private interface Writer {
+        void write() throws IOException;
+    }
+
+    private ByteBuffer frame(Writer writer) {
+        payload.reset();
+        try {
+            writer.write();
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new UncheckedIOException(e);
+        }
+        final var bytes = payload.toByteArray();
+        crc.reset();
+        crc.update(bytes);
+        return ByteBuffer.allocate(FRAME_HEADER_BYTES + bytes.length)
+                .putInt(bytes.length)
+                .putInt((int) crc.getValue())
+                .put(bytes)
+                .flip();
+    }
+
+    private void writeId(UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeInteger(Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static UUID readId(ByteBuffer payload) {
+        return new UUID(payload.getLong(), payload.getLong());
+    }
+
+    private static String readString(ByteBuffer payload) {
+        final var length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(ByteBuffer payload) {
+        return (payload.get() != 0) ? payload.getInt() : null;
+    }
+}
@@ -0,0 +1,302 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.NonNull;
+
+/**
+ * Thread-safe mock employee store with a primary index ordered by id and a case-insensitive name index.
+ *
+ * Lookups by id and by name and pages in id order are O(log n); they and iteration never lock and never fail on
+ * concurrent changes. Writers are serialized, so both indexes change together. A reader sees each employee either fully
+ * stored or not at all, but a single pass over all employees may or may not include those added or removed during it.
+ * Stored employees must not be mutated.
+ *
+ * A store may also be backed by a {@link SeededMockEmployees} set, whose employees are only generated when read, so
+ * that very large data sets take no memory up front. Only the changes to such a set are held: employees stored on top
+ * of it and the indexes of generated employees that were removed or replaced. Finding a generated employee by name
+ * has to generate names in id order until one matches, which is the one operation that is O(n) in this mode.
+ */
+public class MockEmployeeStore {
+
+    private final NavigableMap<UUID, MockEmployee> byId = new ConcurrentSkipListMap<>();
+
+    /** Ids of the employees with each name key, lowest id first. */
+    private final Map<String, NavigableSet<UUID>> idsByName = new ConcurrentHashMap<>();
+
+    /** Employees generated on demand, or null if every employee is held in {@code byId}. */
+    private final SeededMockEmployees generated;
+
+    /** Indexes of generated employees that were removed, or replaced by an employee in {@code byId}. */
+    private final Set<Long> removedGenerated = ConcurrentHashMap.newKeySet();
+
+    /** Receives each change before it is applied, or null if changes are not logged. */
+    private WriteAheadLog writeAheadLog;
+
+    private final Collection<MockEmployee> all = new AbstractCollection<>() {
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return iteratorAfter(null);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(MockEmployeeStore.this.size(), Integer.MAX_VALUE);
+        }
+    };
+
+    public MockEmployeeStore() {
+        this(null);
+    }
+
+    /**
+     * @param generated employees to generate on demand rather than hold, or null
+     */
+    public MockEmployeeStore(SeededMockEmployees generated) {
+        this.generated = generated;
+    }
+
+    /**
+     * Durable record of the changes made to a store. Each change is passed to the log before it is applied, while
+     * writers are locked out, so the log holds changes in the order they were applied. If the log throws, the change is
+     * not applied.
+     */
+    public interface WriteAheadLog {
+
+        void put(MockEmployee mockEmployee);
+
+        void remove(UUID id);
+    }
+
+    /**
+     * Pass every later change to {@code writeAheadLog} before applying it.
+     */
+    public synchronized void attach(@NonNull WriteAheadLog writeAheadLog) {
+        this.writeAheadLog = writeAheadLog;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var mockEmployee = byId.get(id);
+        if (mockEmployee != null || generated == null) {
+            return Optional.ofNullable(mockEmployee);
+        }
+        final var index = generated.indexOf(id);
+        if (index < 0 || removedGenerated.contains(index)) {
+            return Optional.empty();
+        }
+        return Optional.of(generated.get(index));
+    }
+
+    /**
+     * The employee with the lowest id whose name equals {@code name}, ignoring case.
+     */
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var key = nameKey(name);
+        MockEmployee first = null;
+        final var ids = idsByName.get(key);
+        if (ids != null) {
+            for (UUID id : ids) {
+                first = byId.get(id);
+                if (first != null) {
+                    break;
+                }
+            }
+        }
+        if (generated == null) {
+            return Optional.ofNullable(first);
+        }
+        // Generated ids increase with the index, so stop at the first match or once past the stored match
+        for (long index = 0; index < generated.count(); index++) {
+            if (first != null && generated.idOf(index).compareTo(first.getId()) > 0) {
+                break;
+            }
+            if (removedGenerated.contains(index)) {
+                continue;
+            }
+            final var candidate = generated.get(index);
+            if (candidate.getName() != null && nameKey(candidate.getName()).equals(key)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.ofNullable(first);
+    }
+
+    /**
+     * All employees in id order, as a live read-only view.
+     */
+    public Collection<MockEmployee> all() {
+        return all;
+    }
+
+    /**
+     * Up to {@code limit} employees with ids greater than {@code cursor}, in id order.
+     *
+     * @param cursor id to start after, or null to start from the lowest id
+     */
+    public List<MockEmployee> page(UUID cursor, int limit) {
+        final var page = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        final var iterator = iteratorAfter(cursor);
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    public long size() {
+        return byId.size() + ((generated == null) ? 0 : generated.count() - removedGenerated.size());
+    }
+
+    /**
+     * Store an employee, replacing any employee with the same id.
+     */
+    public synchronized void put(@NonNull MockEmployee mockEmployee) {
+        if (writeAheadLog != null) {
+            writeAheadLog.put(mockEmployee);
+        }
+        if (generated != null) {
+            final var index = generated.indexOf(mockEmployee.getId());
+            if (index >= 0) {
+                removedGenerated.add(index);
+            }
+        }
+        final var previous = byId.put(mockEmployee.getId(), mockEmployee);
+        if (previous != null) {
+            unindexName(previous);
+        }
+        if (mockEmployee.getName() != null) {
+            idsByName
+                    .computeIfAbsent(nameKey(mockEmployee.getName()), key -> new ConcurrentSkipListSet<>())
+                    .add(mockEmployee.getId());
+        }
+    }
+
+    /**
+     * Store employees in bulk, replacing any employees with the same ids.
+     */
+    public synchronized void putAll(@NonNull Iterable<MockEmployee> mockEmployees) {
+        mockEmployees.forEach(this::put);
+    }
+
+    public synchronized Optional<MockEmployee> remove(@NonNull UUID id) {
+        final var removed = findById(id);
+        if (removed.isEmpty()) {
+            return removed;
+        }
+        if (writeAheadLog != null) {
+            writeAheadLog.remove(id);
+        }
+        if (byId.remove(id) != null) {
+            unindexName(removed.get());
+        } else {
+            removedGenerated.add(generated.indexOf(id));
+        }
+        return removed;
+    }
+
+    /**
+     * Remove the employee {@link #findFirstByName} would return, as one atomic step.
+     */
+    public synchronized Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return findFirstByName(name).flatMap(mockEmployee -> remove(mockEmployee.getId()));
+    }
+
+    /**
+     * Employees generated on demand, or null if every employee is stored.
+     */
+    SeededMockEmployees generated() {
+        return generated;
+    }
+
+    /**
+     * Indexes of the generated employees that were removed or replaced.
+     */
+    Set<Long> removedGenerated() {
+        return removedGenerated;
+    }
+
+    /**
+     * Employees held in the store rather than generated, in id order.
+     */
+    Collection<MockEmployee> stored() {
+        return byId.values();
+    }
+
+    /**
+     * All employees with ids greater than {@code cursor} in id order, merging the stored and generated employees.
+     */
+    private Iterator<MockEmployee> iteratorAfter(UUID cursor) {
+        final var stored = ((cursor == null) ? byId : byId.tailMap(cursor, false)).values().iterator();
+        if (generated == null) {
+            return stored;
+        }
+        final var firstIndex = (cursor == null) ? 0 : generated.indexAfter(cursor);
+        return new Iterator<>() {
+
+            private MockEmployee nextStored = stored.hasNext() ? stored.next() : null;
+
+            private long nextIndex = skipRemoved(firstIndex);
+
+            @Override
+            public boolean hasNext() {
+                return nextStored != null || nextIndex < generated.count();
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (nextIndex >= generated.count()
+                        || (nextStored != null && nextStored.getId().compareTo(generated.idOf(nextIndex)) < 0)) {
+                    final var next = nextStored;
+                    nextStored = stored.hasNext() ? stored.next() : null;
+                    return next;
+                }
+                final var next = generated.get(nextIndex);
+                nextIndex = skipRemoved(nextIndex + 1);
+                return next;
+            }
+        };
+    }
+
+    private long skipRemoved(long index) {
+        while (index < generated.count() && removedGenerated.contains(index)) {
+            index++;
+        }
+        return index;
+    }
+
+    private void unindexName(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() == null) {
+            return;
+        }
+        idsByName.computeIfPresent(nameKey(mockEmployee.getName()), (key, ids) -> {
+            ids.remove(mockEmployee.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Key under which names that are {@link String#equalsIgnoreCase} equal to each other coincide. Like
+     * {@code equalsIgnoreCase}, it folds case one code point at a time.
+     */
+    static String nameKey(String name) {
+        final var key = new StringBuilder(name.length());
+        name.codePoints().map(c -> Character.toLowerCase(Character.toUpperCase(c))).forEach(key::appendCodePoint);
+        return key.toString();
+    }
+}
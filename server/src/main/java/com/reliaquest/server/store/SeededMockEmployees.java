@@ -0,0 +1,141 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import net.datafaker.Faker;
+
+/**
+ * A fixed set of mock employees that is fully determined by a seed, so that any employee can be generated on its own,
+ * in any order, on any thread, and always comes out the same.
+ *
+ * Employee {@code i} is generated by a per-thread {@link Faker} whose random source is reseeded from the seed and
+ * {@code i}. Its id is a version 4 UUID whose high bits are derived from the seed and whose low bits hold {@code i}, so
+ * ids sort in index order and map back to their index without a lookup.
+ */
+public class SeededMockEmployees {
+
+    private static final long VARIANT_MASK = 0xC000_0000_0000_0000L;
+
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    private final long seed;
+
+    private final long count;
+
+    private final Locale locale;
+
+    private final long mostSignificantBits;
+
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public SeededMockEmployees(long seed, long count, Locale locale) {
+        if (count < 0 || count > ~VARIANT_MASK) {
+            throw new IllegalArgumentException("Employee count out of range: " + count);
+        }
+        this.seed = seed;
+        this.count = count;
+        this.locale = locale;
+        this.mostSignificantBits = (mix(seed) & ~0xF000L) | 0x4000L;
+        this.fakers = ThreadLocal.withInitial(() -> new SeededFaker(locale));
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Locale locale() {
+        return locale;
+    }
+
+    public UUID idOf(long index) {
+        return new UUID(mostSignificantBits, VARIANT | index);
+    }
+
+    /**
+     * The index of the employee with this id, or -1 if the id is not one of this set's.
+     */
+    public long indexOf(UUID id) {
+        final var leastSignificantBits = id.getLeastSignificantBits();
+        if (id.getMostSignificantBits() != mostSignificantBits || (leastSignificantBits & VARIANT_MASK) != VARIANT) {
+            return -1;
+        }
+        final var index = leastSignificantBits & ~VARIANT_MASK;
+        return (index < count) ? index : -1;
+    }
+
+    /**
+     * The index of the first employee whose id is greater than {@code id}, or {@link #count()} if there is none.
+     */
+    public long indexAfter(UUID id) {
+        long low = 0;
+        long high = count;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (idOf(middle).compareTo(id) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public MockEmployee get(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Employee index " + index + " out of range for " + count);
+        }
+        final var seeded = fakers.get();
+        seeded.random.setSeed(mix(seed ^ mix(index)));
+        final var faker = seeded.faker;
+        return MockEmployee.builder()
+                .id(idOf(index))
+                .name(faker.name().fullName())
+                .salary(faker.number().numberBetween(30000, 500000))
+                .age(faker.number().numberBetween(16, 70))
+                .title(faker.job().title())
+                .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()))
+                .build();
+    }
+
+    /**
+     * Generate every employee, in index order, spreading the work over all cores.
+     */
+    public MockEmployee[] generateAll() {
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many employees to generate eagerly: " + count);
+        }
+        final var mockEmployees = new MockEmployee[(int) count];
+        Arrays.parallelSetAll(mockEmployees, this::get);
+        return mockEmployees;
+    }
+
+    /**
+     * SplitMix64 finalizer, which spreads consecutive inputs over the whole range.
+     */
+    private static long mix(long value) {
+        var z = value + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class SeededFaker {
+
+        private final Random random = new Random();
+
+        private final Faker faker;
+
+        private SeededFaker(Locale locale) {
+            this.faker = new Faker(locale, random);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes every create and delete to subscribers as Server-Sent Events. Each event's id is {@code <epoch>:<sequence>}
+ * from the change log, so a client that reconnects with the last id it saw in {@code Last-Event-ID} first receives the
+ * changes it missed. A client that connects without an id, or whose missed changes are no longer in the log, receives a
+ * {@code resync} event and should re-read all employees.
+ *
+ * Each subscriber has its own queue of at most {@code buffer} events, which a sender thread drains in order while it
+ * holds any, so a slow or stalled client only ever holds up its own events. The thread that changed the store only
+ * queues events. A subscriber that falls {@code buffer} events behind is disconnected; it catches up from its
+ * {@code Last-Event-ID} when it reconnects, or resyncs if the log no longer holds what it missed.
+ */
+@Slf4j
+@Component
+public class MockEmployeeEventPublisher implements DisposableBean {
+
+    private final MockEmployeeChangeLog changeLog;
+
+    private final Duration timeout;
+
+    private final int buffer;
+
+    private final AtomicInteger senderThreads = new AtomicInteger();
+
+    /** Runs one task per subscriber with events queued; threads idle for a minute are released. */
+    private final ExecutorService senders = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "employee-events-" + senderThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-event-heartbeats");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /** Sequence number of the latest change queued for subscribers. Guarded by the change log's lock. */
+    private long lastPublished;
+
+    public MockEmployeeEventPublisher(
+            MockEmployeeChangeLog changeLog,
+            @Value("${mock.employees.events.timeout:30m}") Duration timeout,
+            @Value("${mock.employees.events.heartbeat:15s}") Duration heartbeat,
+            @Value("${mock.employees.events.buffer:1000}") int buffer) {
+        if (buffer < 1) {
+            throw new IllegalArgumentException("Event buffer must be positive: " + buffer);
+        }
+        this.changeLog = changeLog;
+        this.timeout = timeout;
+        this.buffer = buffer;
+        this.lastPublished = changeLog.addListener(this::publish);
+        heartbeats.scheduleAtFixedRate(
+                this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribe to changes after {@code lastEventId}, or to a {@code resync} event followed by all later changes.
+     * Subscriptions end after the configured timeout, after which clients reconnect and resume.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        final var subscription = new Subscription(emitter);
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(subscription::close);
+        emitter.onError(error -> subscription.close());
+        // No change is recorded while the log's lock is held, so live changes are queued right after the catch-up
+        synchronized (changeLog) {
+            catchUp(subscription, lastEventId);
+            subscriptions.add(subscription);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> {
+            subscription.close();
+            subscription.emitter.complete();
+        });
+    }
+
+    /**
+     * Queue the changes missed since {@code lastEventId}, or a resync event if they are not all held, or would not
+     * fit in the subscriber's queue. The caller holds the change log's lock.
+     */
+    private void catchUp(Subscription subscription, String lastEventId) {
+        final var separator = (lastEventId != null) ? lastEventId.lastIndexOf(':') : -1;
+        if (separator > 0) {
+            try {
+                final var since = Long.parseLong(lastEventId.substring(separator + 1));
+                final var missed = changeLog.since(lastEventId.substring(0, separator), since, buffer);
+                if (!missed.resync() && since + missed.changes().size() == missed.latest()) {
+                    missed.changes().forEach(change -> subscription.offer(() -> event(change)));
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed Last-Event-ID {}", lastEventId);
+            }
+        }
+        final var resync = new MockEmployeeChanges(changeLog.epoch(), lastPublished, true, List.of());
+        final var id = eventId(lastPublished);
+        subscription.offer(() -> SseEmitter.event().id(id).name("resync").data(resync, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Called with the change log's lock held, so it only queues.
+     */
+    private void publish(MockEmployeeChange change) {
+        lastPublished = change.sequence();
+        subscriptions.forEach(subscription -> subscription.offer(() -> event(change)));
+    }
+
+    private void heartbeat() {
+        subscriptions.forEach(subscription -> subscription.offer(() -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    private SseEmitter.SseEventBuilder event(MockEmployeeChange change) {
+        return SseEmitter.event()
+                .id(eventId(change.sequence()))
+                .name("change")
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    private String eventId(long sequence) {
+        return changeLog.epoch() + ":" + sequence;
+    }
+
+    private void onSender(Runnable task) {
+        try {
+            senders.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Dropping employee event task during shutdown.");
+        }
+    }
+
+    /**
+     * One subscriber's queued events, sent in order by at most one sender task at a time. Events are queued as
+     * suppliers and built as they are sent, since building an event changes the builder, which must not be shared.
+     */
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> events = new ArrayBlockingQueue<>(buffer);
+
+        /** Whether a sender task is draining the queue, or has been started to. */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue an event without waiting, disconnecting the subscriber if its queue is full.
+         */
+        void offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!events.offer(event)) {
+                log.debug("Disconnecting an employee event subscriber that fell {} events behind.", buffer);
+                end(new IOException("Subscriber fell " + buffer + " events behind"));
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                onSender(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Supplier<SseEmitter.SseEventBuilder> event;
+                while (!closed.get() && (event = events.poll()) != null) {
+                    try {
+                        emitter.send(event.get());
+                    } catch (IOException | IllegalStateException e) {
+                        // The client has gone away
+                        end(e);
+                        return;
+                    }
+                }
+                sending.set(false);
+                // An event queued after the queue was found empty, but before the flag was cleared, is sent here
+            } while (!closed.get() && !events.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        /**
+         * Stop sending, and complete the emitter on a sender thread, since completing waits for any send in progress.
+         */
+        void end(Throwable cause) {
+            if (close()) {
+                onSender(() -> emitter.completeWithError(cause));
+            }
+        }
+
+        /**
+         * @return whether this call closed the subscription
+         */
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscriptions.remove(this);
+            events.clear();
+            return true;
+        }
+    }
+}
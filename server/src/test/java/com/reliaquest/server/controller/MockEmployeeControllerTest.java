@@ -0,0 +1,166 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeEventPublisher;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>; rel=\"next\"");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var service = new MockEmployeeService(new Faker(), store, new MockEmployeeChangeLog(100));
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(service, objectMapper, mock(MockEmployeeEventPublisher.class)))
+                .build();
+    }
+
+    @Test
+    void testGetEmployees_NextLinksVisitEveryEmployeeOnce() throws Exception {
+        putEmployees(5);
+
+        final var visited = new ArrayList<UUID>();
+        var next = URI.create("/api/v1/employee?limit=2");
+        var pages = 0;
+        while (next != null) {
+            final var response = mockMvc.perform(get(next))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            visited.addAll(ids(response));
+            next = nextLink(response);
+            pages++;
+        }
+
+        assertEquals(expectedIds(5), visited);
+        // The last page is short, so it has no next link
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testGetEmployees_CursorPastTheEnd() throws Exception {
+        putEmployees(3);
+
+        final var response = mockMvc.perform(get("/api/v1/employee")
+                        .param("cursor", id(3).toString())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andReturn()
+                .getResponse();
+
+        assertEquals(List.of(), ids(response));
+    }
+
+    @Test
+    void testGetEmployees_FullPageLinksToNextEvenWhenLast() throws Exception {
+        putEmployees(2);
+
+        final var first = mockMvc.perform(get("/api/v1/employee").param("limit", "2"))
+                .andReturn()
+                .getResponse();
+        final var last = mockMvc.perform(get(nextLink(first))).andReturn().getResponse();
+
+        assertEquals(expectedIds(2), ids(first));
+        assertEquals(List.of(), ids(last));
+        assertNull(nextLink(last));
+    }
+
+    @Test
+    void testStreamEmployees_WritesOneLinePerEmployeeAcrossChunks() throws Exception {
+        // More than two chunks of the stream
+        putEmployees(1001);
+
+        final var started = mockMvc.perform(get("/api/v1/employee/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final var lines = body.split("\n");
+        assertTrue(body.endsWith("\n"));
+        final var streamed = new ArrayList<UUID>();
+        for (String line : lines) {
+            streamed.add(UUID.fromString(objectMapper.readTree(line).get("id").asText()));
+        }
+        assertEquals(expectedIds(1001), streamed);
+    }
+
+    private List<UUID> ids(MockHttpServletResponse response) throws Exception {
+        final var ids = new ArrayList<UUID>();
+        objectMapper
+                .readTree(response.getContentAsString())
+                .get("data")
+                .forEach(employee -> ids.add(UUID.fromString(employee.get("id").asText())));
+        return ids;
+    }
+
+    private static URI nextLink(MockHttpServletResponse response) {
+        final var link = response.getHeader(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        final var matcher = NEXT_LINK.matcher(link);
+        assertTrue(matcher.matches(), link);
+        return URI.create(matcher.group(1));
+    }
+
+    private void putEmployees(int count) {
+        // In reverse, so that id order differs from insertion order
+        for (int i = count; i >= 1; i--) {
+            store.put(MockEmployee.builder()
+                    .id(id(i))
+                    .name("Employee " + i)
+                    .salary(50000)
+                    .age(30)
+                    .title("Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+    }
+
+    private static List<UUID> expectedIds(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(MockEmployeeControllerTest::id).toList();
+    }
+
+    private static UUID id(int i) {
+        return new UUID(0, i);
+    }
+}
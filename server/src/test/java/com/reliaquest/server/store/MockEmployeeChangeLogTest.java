@@ -0,0 +1,108 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeChangeLogTest {
+
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(3);
+
+    @Test
+    void testSince_ReturnsChangesInOrder() {
+        final var created = employee();
+        changeLog.created(created);
+        changeLog.deleted(created.getId());
+
+        final var changes = changeLog.since(changeLog.epoch(), 0, 10);
+
+        assertFalse(changes.resync());
+        assertEquals(2, changes.latest());
+        assertEquals(
+                List.of(
+                        MockEmployeeChange.created(1, created),
+                        MockEmployeeChange.deleted(2, created.getId())),
+                changes.changes());
+        assertEquals(List.of(), changeLog.since(changeLog.epoch(), 2, 10).changes());
+        assertFalse(changeLog.since(changeLog.epoch(), 2, 10).resync());
+    }
+
+    @Test
+    void testSince_LimitsChangesReturned() {
+        for (int i = 0; i < 3; i++) {
+            changeLog.created(employee());
+        }
+
+        final var first = changeLog.since(changeLog.epoch(), 0, 2);
+        final var rest = changeLog.since(changeLog.epoch(), 2, 2);
+
+        assertEquals(List.of(1L, 2L), sequences(first.changes()));
+        assertEquals(List.of(3L), sequences(rest.changes()));
+        assertEquals(3, rest.latest());
+    }
+
+    @Test
+    void testSince_ResyncOnceChangesAreEvicted() {
+        for (int i = 0; i < 5; i++) {
+            changeLog.created(employee());
+        }
+
+        // Only changes 3 to 5 are held, so a client at 2 can still catch up, and one at 1 cannot
+        assertEquals(List.of(3L, 4L, 5L), sequences(changeLog.since(changeLog.epoch(), 2, 10).changes()));
+        final var evicted = changeLog.since(changeLog.epoch(), 1, 10);
+        assertTrue(evicted.resync());
+        assertEquals(5, evicted.latest());
+        assertEquals(List.of(), evicted.changes());
+    }
+
+    @Test
+    void testSince_ResyncOnEpochMismatch() {
+        changeLog.created(employee());
+        final var restarted = new MockEmployeeChangeLog(3);
+
+        assertNotEquals(changeLog.epoch(), restarted.epoch());
+        assertTrue(restarted.since(changeLog.epoch(), 0, 10).resync());
+        assertTrue(changeLog.since(null, 0, 10).resync());
+        assertEquals(changeLog.epoch(), changeLog.since(null, 0, 10).epoch());
+    }
+
+    @Test
+    void testSince_ResyncForSequenceAheadOfLog() {
+        changeLog.created(employee());
+
+        assertTrue(changeLog.since(changeLog.epoch(), 2, 10).resync());
+    }
+
+    @Test
+    void testAddListener_ReceivesLaterChanges() {
+        changeLog.created(employee());
+        final var received = new ArrayList<MockEmployeeChange>();
+
+        final var latest = changeLog.addListener(received::add);
+        final var id = UUID.randomUUID();
+        changeLog.deleted(id);
+
+        assertEquals(1, latest);
+        assertEquals(List.of(MockEmployeeChange.deleted(2, id)), received);
+    }
+
+    private static List<Long> sequences(List<MockEmployeeChange> changes) {
+        return changes.stream().map(MockEmployeeChange::sequence).toList();
+    }
+
+    private static MockEmployee employee() {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee")
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
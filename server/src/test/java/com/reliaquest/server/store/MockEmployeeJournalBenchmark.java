@@ -0,0 +1,113 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures what persistence costs: the time a create takes with and without the write-ahead log, and the time a restart
+ * takes to recover a large store from its snapshot and log. Run with {@code ./gradlew server:benchmark}.
+ */
+@Tag("benchmark")
+class MockEmployeeJournalBenchmark {
+
+    private static final int STORED = 1_000_000;
+
+    private static final int WRITES = 100_000;
+
+    private static final int FSYNC_WRITES = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeOverhead() throws Exception {
+        final var inMemory = new MockEmployeeStore();
+        report("in memory", WRITES, measure(() -> putAll(inMemory, WRITES)));
+
+        try (var journal = new MockEmployeeJournal(directory.resolve("log"), Long.MAX_VALUE, false)) {
+            final var logged = journal.open(MockEmployeeStore::new);
+            report("logged", WRITES, measure(() -> putAll(logged, WRITES)));
+        }
+
+        try (var journal = new MockEmployeeJournal(directory.resolve("fsync"), Long.MAX_VALUE, true)) {
+            final var forced = journal.open(MockEmployeeStore::new);
+            report("fsync", FSYNC_WRITES, measure(() -> putAll(forced, FSYNC_WRITES)));
+        }
+    }
+
+    @Test
+    void restart() throws Exception {
+        final var expected = new ArrayList<MockEmployee>();
+        final var snapshotNanos = measure(() -> {
+            try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+                journal.open(() -> {
+                    final var store = new MockEmployeeStore();
+                    expected.addAll(putAll(store, STORED));
+                    return store;
+                });
+            }
+        });
+        System.out.printf("snapshot of %d employees written in %d ms%n", STORED, snapshotNanos / 1_000_000);
+
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            final var store = journal.open(() -> fail("A snapshot exists"));
+            expected.addAll(putAll(store, WRITES));
+        }
+
+        final var recovered = new MockEmployeeStore[1];
+        final var recoveryNanos = measure(() -> {
+            try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+                recovered[0] = journal.open(() -> fail("A snapshot exists"));
+            }
+        });
+        System.out.printf(
+                "recovered %d employees from snapshot and %d logged changes in %d ms%n",
+                recovered[0].size(), WRITES, recoveryNanos / 1_000_000);
+
+        assertEquals(expected.size(), recovered[0].size());
+        for (int i = 0; i < expected.size(); i += 997) {
+            final var mockEmployee = expected.get(i);
+            assertEquals(mockEmployee, recovered[0].findById(mockEmployee.getId()).orElseThrow());
+        }
+    }
+
+    private static List<MockEmployee> putAll(MockEmployeeStore store, int count) {
+        final var mockEmployees = new ArrayList<MockEmployee>(count);
+        for (int i = 0; i < count; i++) {
+            final var mockEmployee = MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(30000 + i % 470000)
+                    .age(16 + i % 54)
+                    .title("Title " + i % 500)
+                    .email("employee" + i + "@company.com")
+                    .build();
+            store.put(mockEmployee);
+            mockEmployees.add(mockEmployee);
+        }
+        return mockEmployees;
+    }
+
+    private static long measure(Run run) throws Exception {
+        final var start = System.nanoTime();
+        run.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, int writes, long nanos) {
+        System.out.printf(
+                "%-10s writes=%d elapsed=%d ms per write=%.2f us%n", name, writes, nanos / 1_000_000, nanos / 1e3 / writes);
+    }
+
+    private interface Run {
+        void run() throws Exception;
+    }
+}
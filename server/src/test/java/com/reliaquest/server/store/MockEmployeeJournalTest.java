@@ -0,0 +1,182 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecover_ReplaysLogOverLatestSnapshot() throws Exception {
+        final var seeded = employee("Seeded");
+        final var first = employee("First");
+        final var second = employee("Second");
+        final var third = employee("Third");
+        final var fourth = employee("Fourth");
+        try (var journal = new MockEmployeeJournal(directory, 2, false)) {
+            final var store = journal.open(() -> storeOf(seeded));
+            store.put(first);
+            store.put(second);
+            // The log holds two changes, so this one first writes a snapshot including them
+            store.put(third);
+            store.remove(first.getId());
+            store.put(fourth.toBuilder().name("Renamed").build());
+            store.put(fourth);
+        }
+        assertTrue(Files.size(directory.resolve("employees.log")) > 0);
+
+        final var recovered = reopen();
+
+        assertEquals(Set.of(seeded, second, third, fourth), new HashSet<>(recovered.all()));
+        assertEquals(fourth, recovered.findFirstByName("fourth").orElseThrow());
+        assertTrue(recovered.findFirstByName("Renamed").isEmpty());
+    }
+
+    @Test
+    void testRecover_DropsRecordTornMidway() throws Exception {
+        final var first = employee("First");
+        final var second = employee("Second");
+        final var torn = employee("Torn");
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            final var store = journal.open(MockEmployeeStore::new);
+            store.put(first);
+            store.put(second);
+            store.put(torn);
+        }
+        final var logFile = directory.resolve("employees.log");
+        final var intact = recordEnd(logFile, 2);
+        // A crash while appending the last record left only part of it
+        try (var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(logFile) - 5);
+        }
+
+        final var later = employee("Later");
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            final var store = journal.open(MockEmployeeJournalTest::noSnapshot);
+            assertEquals(Set.of(first, second), new HashSet<>(store.all()));
+            assertEquals(intact, Files.size(logFile));
+            store.put(later);
+        }
+
+        // Appends after the truncated tail are recovered too
+        assertEquals(Set.of(first, second, later), new HashSet<>(reopen().all()));
+    }
+
+    @Test
+    void testRecover_StopsAtCorruptChecksum() throws Exception {
+        final var first = employee("First");
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            final var store = journal.open(MockEmployeeStore::new);
+            store.put(first);
+            store.put(employee("Corrupted"));
+            store.put(employee("After"));
+        }
+        final var logFile = directory.resolve("employees.log");
+        final var firstEnd = recordEnd(logFile, 1);
+        // Flip a byte inside the second record's payload, past its length and checksum
+        try (var channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var position = firstEnd + 2 * Integer.BYTES + 4;
+            final var value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) ~value.get(0)}), position);
+        }
+
+        final var recovered = reopen();
+
+        // Nothing after the corrupt record can be trusted to follow it, so the log ends before it
+        assertEquals(List.of(first), List.copyOf(recovered.all()));
+        assertEquals(firstEnd, Files.size(logFile));
+    }
+
+    @Test
+    void testRecover_IgnoresSnapshotNotMovedIntoPlace() throws Exception {
+        final var seeded = employee("Seeded");
+        final var logged = employee("Logged");
+        try (var journal = new MockEmployeeJournal(directory, 1, false)) {
+            final var store = journal.open(() -> storeOf(seeded));
+            store.put(logged);
+        }
+        // A crash while writing the next snapshot left a partial temporary file, and the log was never emptied
+        final var snapshot = Files.readAllBytes(directory.resolve("employees.snapshot"));
+        final var temporary = directory.resolve("employees.snapshot.tmp");
+        Files.write(temporary, Arrays.copyOf(snapshot, snapshot.length / 2));
+
+        final var later = employee("Later");
+        try (var journal = new MockEmployeeJournal(directory, 1, false)) {
+            final var store = journal.open(MockEmployeeJournalTest::noSnapshot);
+            assertEquals(Set.of(seeded, logged), new HashSet<>(store.all()));
+            // The log holds one change, so this writes a snapshot over the leftover file and moves it into place
+            store.put(later);
+        }
+
+        assertFalse(Files.exists(temporary));
+        assertEquals(Set.of(seeded, logged, later), new HashSet<>(reopen().all()));
+    }
+
+    @Test
+    void testOpen_DiscardsLogWithoutSnapshot() throws Exception {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("employees.log"), new byte[] {1, 2, 3});
+        final var seeded = employee("Seeded");
+
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            assertEquals(List.of(seeded), List.copyOf(journal.open(() -> storeOf(seeded)).all()));
+        }
+        assertEquals(0, Files.size(directory.resolve("employees.log")));
+    }
+
+    private MockEmployeeStore reopen() throws IOException {
+        try (var journal = new MockEmployeeJournal(directory, Long.MAX_VALUE, false)) {
+            return journal.open(MockEmployeeJournalTest::noSnapshot);
+        }
+    }
+
+    /**
+     * Offset just past the first {@code records} framed records of a file.
+     */
+    private static long recordEnd(Path file, int records) throws IOException {
+        final var bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        for (int i = 0; i < records; i++) {
+            final var length = bytes.getInt(bytes.position());
+            bytes.position(bytes.position() + 2 * Integer.BYTES + length);
+        }
+        return bytes.position();
+    }
+
+    private static MockEmployeeStore noSnapshot() {
+        return fail("A snapshot exists");
+    }
+
+    private static MockEmployeeStore storeOf(MockEmployee... mockEmployees) {
+        final var store = new MockEmployeeStore();
+        store.putAll(Arrays.asList(mockEmployees));
+        return store;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
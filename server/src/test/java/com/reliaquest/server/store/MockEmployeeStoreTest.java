@@ -0,0 +1,113 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    @Test
+    void testFindFirstByName_FollowsReplace() {
+        final var alice = employee(1, "Alice");
+        store.put(alice);
+
+        final var renamed = alice.toBuilder().name("Alicia").build();
+        store.put(renamed);
+
+        assertEquals(Optional.empty(), store.findFirstByName("Alice"));
+        assertEquals(Optional.of(renamed), store.findFirstByName("ALICIA"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testFindFirstByName_FollowsDelete() {
+        final var second = employee(2, "Sam Smith");
+        final var first = employee(1, "sam smith");
+        store.put(second);
+        store.put(first);
+
+        // The lowest id wins, whatever the insertion order
+        assertEquals(Optional.of(first), store.findFirstByName("SAM SMITH"));
+
+        store.remove(first.getId());
+        assertEquals(Optional.of(second), store.findFirstByName("Sam Smith"));
+
+        assertEquals(Optional.of(second), store.removeFirstByName("sam SMITH"));
+        assertEquals(Optional.empty(), store.findFirstByName("Sam Smith"));
+        assertEquals(Optional.empty(), store.removeFirstByName("Sam Smith"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testFindFirstByName_IgnoresCaseLikeEqualsIgnoreCase() {
+        final var employee = employee(1, "\u0130stanbul \u00c5ngstr\u00f6m");
+        store.put(employee);
+
+        assertEquals(Optional.of(employee), store.findFirstByName("istanbul \u00e5ngstr\u00d6m"));
+    }
+
+    @Test
+    void testPage_ContinuesFromCursor() {
+        final var expected = new ArrayList<MockEmployee>();
+        for (int i = 10; i >= 1; i--) {
+            final var employee = employee(i, "Employee " + i);
+            store.put(employee);
+            expected.add(0, employee);
+        }
+
+        final var visited = new ArrayList<MockEmployee>();
+        UUID cursor = null;
+        List<MockEmployee> page;
+        do {
+            page = store.page(cursor, 3);
+            visited.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 3);
+
+        assertEquals(expected, visited);
+        assertEquals(List.of(), store.page(id(10), 3));
+        assertEquals(List.of(), store.page(new UUID(Long.MAX_VALUE, Long.MAX_VALUE), 3));
+    }
+
+    @Test
+    void testPage_SkipsRemovedEmployees() {
+        for (int i = 1; i <= 5; i++) {
+            store.put(employee(i, "Employee " + i));
+        }
+        final var page = store.page(null, 2);
+
+        store.remove(id(3));
+        store.remove(id(2));
+
+        // The cursor no longer belongs to any employee, and paging still continues after it
+        assertEquals(List.of(id(4), id(5)), ids(store.page(page.get(1).getId(), 10)));
+    }
+
+    private static List<UUID> ids(List<MockEmployee> mockEmployees) {
+        return mockEmployees.stream().map(MockEmployee::getId).toList();
+    }
+
+    private static UUID id(int i) {
+        return new UUID(0, i);
+    }
+
+    private static MockEmployee employee(int i, String name) {
+        return MockEmployee.builder()
+                .id(id(i))
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee" + i + "@company.com")
+                .build();
+    }
+}
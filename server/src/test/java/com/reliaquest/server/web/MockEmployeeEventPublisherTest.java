@@ -0,0 +1,173 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class MockEmployeeEventPublisherTest {
+
+    private static final Pattern EVENT = Pattern.compile("(?s)id:\\S+:(\\d+)\\nevent:(\\w+)\\n.*");
+
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(100);
+
+    private MockEmployeeEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
+    }
+
+    @Test
+    void testStalledSubscriber_DoesNotHoldUpOthers() throws Exception {
+        publisher = publisher(10);
+        final var stalled = new RecordingEmitter(new CountDownLatch(1));
+        final var healthy = new RecordingEmitter(new CountDownLatch(0));
+        publisher.subscribe(stalled, null);
+        publisher.subscribe(healthy, null);
+
+        for (int i = 0; i < 3; i++) {
+            changeLog.created(employee());
+        }
+
+        await(() -> healthy.events.size() == 4);
+        assertEquals(List.of("resync:0", "change:1", "change:2", "change:3"), healthy.events);
+        assertNull(stalled.failure);
+
+        // Once it is unblocked, the stalled subscriber receives everything it was sent, in order
+        stalled.gate.countDown();
+        await(() -> stalled.events.size() == 4);
+        assertEquals(healthy.events, stalled.events);
+    }
+
+    @Test
+    void testSubscriberFallingBufferBehind_IsDisconnected() throws Exception {
+        publisher = publisher(2);
+        final var stalled = new RecordingEmitter(new CountDownLatch(1));
+        final var healthy = new RecordingEmitter(new CountDownLatch(0));
+        publisher.subscribe(stalled, null);
+        publisher.subscribe(healthy, null);
+        // The stalled subscriber's sender takes the resync event off its queue and blocks sending it
+        await(() -> stalled.sending);
+
+        // Paced so that the healthy subscriber keeps up, while the stalled one's queue fills and then overflows
+        for (int i = 1; i <= 3; i++) {
+            changeLog.created(employee());
+            final var received = i + 1;
+            await(() -> healthy.events.size() == received);
+        }
+
+        await(() -> stalled.failure != null);
+        assertInstanceOf(IOException.class, stalled.failure);
+        assertNull(healthy.failure);
+
+        // Nothing more is queued for the disconnected subscriber
+        stalled.gate.countDown();
+        changeLog.created(employee());
+        await(() -> healthy.events.size() == 5);
+        assertTrue(stalled.events.size() <= 1);
+    }
+
+    @Test
+    void testSubscribe_CatchesUpFromLastEventId() throws Exception {
+        publisher = publisher(10);
+        for (int i = 0; i < 3; i++) {
+            changeLog.created(employee());
+        }
+        final var emitter = new RecordingEmitter(new CountDownLatch(0));
+
+        publisher.subscribe(emitter, changeLog.epoch() + ":1");
+        changeLog.deleted(UUID.randomUUID());
+
+        await(() -> emitter.events.size() == 3);
+        assertEquals(List.of("change:2", "change:3", "change:4"), emitter.events);
+    }
+
+    @Test
+    void testSubscribe_ResyncsWhenMissedChangesExceedBuffer() throws Exception {
+        publisher = publisher(2);
+        for (int i = 0; i < 3; i++) {
+            changeLog.created(employee());
+        }
+        final var emitter = new RecordingEmitter(new CountDownLatch(0));
+
+        publisher.subscribe(emitter, changeLog.epoch() + ":0");
+
+        await(() -> emitter.events.size() == 1);
+        assertEquals(List.of("resync:3"), emitter.events);
+    }
+
+    private MockEmployeeEventPublisher publisher(int buffer) {
+        return new MockEmployeeEventPublisher(changeLog, Duration.ofHours(1), Duration.ofHours(1), buffer);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting");
+            Thread.sleep(5);
+        }
+    }
+
+    private static MockEmployee employee() {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee")
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    /**
+     * Records each event sent as {@code <name>:<sequence>}, and blocks sends until its gate opens.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private volatile boolean sending;
+
+        private volatile Throwable failure;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            final var matcher = EVENT.matcher(
+                    String.valueOf(builder.build().iterator().next().getData()));
+            assertTrue(matcher.matches());
+            events.add(matcher.group(2) + ":" + matcher.group(1));
+        }
+
+        @Override
+        public void completeWithError(Throwable failure) {
+            this.failure = failure;
+            super.completeWithError(failure);
+        }
+    }
+}